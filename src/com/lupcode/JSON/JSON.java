@@ -1,13 +1,12 @@
 package com.lupcode.JSON;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -32,10 +31,22 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	protected static UTF8String LINE_BREAKER = LINE_BREAKERS[0];
 	protected static String SPACER = "  ";
 	
-	protected static UTF8String[] IGNORE_CHARS = new UTF8String[]{
-			new UTF8String(" "), new UTF8String("\n"), new UTF8String("\r\n"), new UTF8String("\t"), 
-			new UTF8String(SPACER)
-		};
+	/** Class of a character that has no special meaning between tokens */
+	static final byte CLASS_OTHER = 0;
+	/** Class of a whitespace character that does not start a new line */
+	static final byte CLASS_WHITESPACE = 1;
+	/** Class of the character that starts a new line */
+	static final byte CLASS_LINE_BREAK = 2;
+	
+	/** Classes of the first 256 characters (or bytes) so whitespace 
+	 * can be detected by a single lookup while parsing */
+	static final byte[] CHAR_CLASSES = new byte[256];
+	static {
+		CHAR_CLASSES[' '] = CLASS_WHITESPACE;
+		CHAR_CLASSES['\t'] = CLASS_WHITESPACE;
+		CHAR_CLASSES['\r'] = CLASS_WHITESPACE;
+		CHAR_CLASSES['\n'] = CLASS_LINE_BREAK;
+	}
 	
 	
 	
@@ -49,9 +60,9 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @return Data represented by this object as JSON string
 	 */
 	public String toString(boolean prettyPrint){
-		ByteArrayOutputStream output = new ByteArrayOutputStream();
-		try { toStream(output, prettyPrint); } catch (Exception ex) {}
-		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		JsonWriter writer = new JsonWriter(256);
+		try { toJSON(writer, prettyPrint, 0); } catch (IOException ex) {}
+		return writer.toString();
 	}
 	
 	/**
@@ -62,8 +73,9 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 */
 	public void toFile(File file, boolean prettyPrint) throws IOException {
 		FileOutputStream output = new FileOutputStream(file);
-		toStream(output, prettyPrint);
-		output.close();
+		try {
+			toStream(output, prettyPrint);
+		} finally { output.close(); }
 	}
 	
 	/**
@@ -73,18 +85,19 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws IOException if error while writing occurs
 	 */
 	public void toStream(OutputStream output, boolean prettyPrint) throws IOException {
-		toJSON(output, prettyPrint, "");
+		JsonWriter writer = new JsonWriter(output);
+		toJSON(writer, prettyPrint, 0);
+		writer.flush();
 	}
 	
-	/** Appends the data of this object to the given {@link StringBuilder}
-	 * @param output Stream the data of this object should be written to.
+	/** Writes the data of this object to the given {@link JsonWriter}
+	 * @param writer Buffered sink the data of this object should be written to
 	 * @param prettyPrint If true will print extra spacers and line breaks for easy human reading
-	 * @param whitespace Whitespace that must be added in front of data if pretty_print is true. 
-	 * Append on every recursive call a new spacer.
-	 * @return Data represented by this object as JSON string
-	 * @throws IOException if writing to {@link OutputStream} fails
+	 * @param depth Nesting depth of this object that is used for indentation if prettyPrint is true. 
+	 * Increment on every recursive call.
+	 * @throws IOException if writing to the underlying {@link OutputStream} fails
 	 */
-	protected abstract void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException;
+	abstract void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException;
 	
 	
 	/** Tries to parse the JSON data from a given {@link String}
@@ -106,8 +119,24 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws NullPointerException if JSON string is null
 	 */
 	public THIS parseJSON(String json, int offset) throws JsonParseException, NullPointerException {
+		return parseJSON((CharSequence)json, offset);
+	}
+	
+	/** Tries to parse the JSON data from a given {@link CharSequence} without copying it
+	 * @param json Characters that should be parsed
+	 * @param offset Offset where to start reading the characters
+	 * @return This instance
+	 * @throws JsonParseException if JSON string could not be parsed correctly
+	 * @throws NullPointerException if JSON string is null
+	 * @throws IndexOutOfBoundsException if offset is not inside of the characters
+	 */
+	public THIS parseJSON(CharSequence json, int offset) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
 		if(json==null){ throw new NullPointerException("Json string cannot be null"); }
-		return parseJSON(json.substring(offset), new LineColumnTracker(offset));
+		try {
+			return parseJSON(new JsonCharParser(json, offset, json.length(), new LineColumnTracker(offset)));
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
 	}
 	
 	/** Tries to parse the JSON data from a given {@link String} in UTF-8
@@ -118,12 +147,95 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 */
 	protected THIS parseJSON(String json, LineColumnTracker lct) throws JsonParseException {
 		try {
-			return parseJSON(new UTF8CharInputStream(new ByteArrayInputStream(json.getBytes())), lct);
+			return parseJSON(new JsonCharParser(json, 0, json.length(), lct));
 		} catch (IOException ex) {
 			throw new JsonParseException(ex);
 		}
 	}
 	
+	/** Tries to parse the JSON data from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return This instance
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public THIS parseJSON(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		if(reader==null){ throw new NullPointerException("Reader cannot be null"); }
+		return parseJSON(new JsonCharParser(reader, new LineColumnTracker()));
+	}
+	
+	/** Tries to parse the JSON data from a given byte array in UTF-8
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public THIS parseJSON(byte[] json) throws JsonParseException, NullPointerException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		return parseJSON(json, 0, json.length);
+	}
+	
+	/** Tries to parse the JSON data from a given range of a byte array in UTF-8
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public THIS parseJSON(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return parseJSON(json, offset, length, null);
+	}
+	
+	/** Tries to parse the JSON data from a given byte array in UTF-8
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public THIS parseJSON(byte[] json, JsonParseOptions options) throws JsonParseException, NullPointerException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		return parseJSON(json, 0, json.length, options);
+	}
+	
+	/** Tries to parse the JSON data from a given range of a byte array in UTF-8
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public THIS parseJSON(byte[] json, int offset, int length, JsonParseOptions options) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		try {
+			return parseJSON(new JsonByteParser(json, offset, length, new LineColumnTracker(), options));
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
+	}
+	
+	/** Tries to parse the JSON data with the given {@link JsonByteParser}
+	 * @param parser Parser positioned in front of the data (doesn't be null)
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the underlying {@link InputStream}
+	 */
+	abstract THIS parseJSON(JsonByteParser parser) throws JsonParseException, IOException;
+	
+	/** Tries to parse the JSON data with the given {@link JsonCharParser}
+	 * @param parser Parser positioned in front of the data (doesn't be null)
+	 * @return This instance
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the underlying {@link Reader}
+	 */
+	abstract THIS parseJSON(JsonCharParser parser) throws JsonParseException, IOException;
+	
 	
 	/** Tries to parse the JSON data from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
@@ -133,8 +245,24 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws NullPointerException if input is null
 	 */
 	public THIS parseJSON(InputStream input) throws JsonParseException, IOException, NullPointerException {
+		return parseJSON(input, null);
+	}
+	
+	/** Tries to parse the JSON data from a given {@link InputStream} in UTF-8
+	 * @param input Stream in UTF-8 that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return This instance
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error while reading {@link InputStream} occurred
+	 * @throws NullPointerException if input is null
+	 */
+	public THIS parseJSON(InputStream input, JsonParseOptions options) throws JsonParseException, IOException, NullPointerException {
 		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
-		return parseJSON(new UTF8CharInputStream(input), new LineColumnTracker());
+		if(JsonParseOptions.inMemory(options)){
+			byte[] json = readFully(input);
+			return parseJSON(new JsonByteParser(json, 0, json.length, new LineColumnTracker(), options));
+		}
+		return parseJSON(new JsonByteParser(input, new LineColumnTracker(), options));
 	}
 	
 	/** Tries to parse the JSON data from a given {@link InputStream} in UTF-8
@@ -158,11 +286,25 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws IOException if an error occurs while reading the {@link File}
 	 */
 	public THIS parseJSON(File file) throws NullPointerException, JsonParseException, IOException {
-		if(file==null) throw new NullPointerException("File cannot be null");
-		FileInputStream input = new FileInputStream(file);
-		THIS o = parseJSON(input);
-		try { input.close(); } catch (Exception e) {}
-		return o;
+		return parseJSON(file, null);
+	}
+	
+	/**
+	 * Tries to parse the JSON data from a given {@link File}
+	 * @param file File the data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return This instance
+	 * @throws NullPointerException if file is null
+	 * @throws JsonParseException if an error while reading the {@link File}
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public THIS parseJSON(File file, JsonParseOptions options) throws NullPointerException, JsonParseException, IOException {
+		InputStream input = openFile(file, options);
+		try {
+			return parseJSON(input, options);
+		} finally {
+			try { input.close(); } catch (Exception e) {}
+		}
 	}
 	
 	/**
@@ -228,7 +370,24 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws NullPointerException if JSON string is null
 	 */
 	public static JSON<?> parseAutoJSON(String json, int offset) throws JsonParseException, NullPointerException {
-		return parseAutoJSON(json, new LineColumnTracker(offset));
+		return parseAutoJSON((CharSequence)json, offset);
+	}
+	
+	/** Tries to parse a {@link CharSequence} without copying it and automatically detect the JSON data type that is parsed
+	 * @param json Characters that should be parsed
+	 * @param offset Offset where to start reading the characters
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if JSON string could not be parsed correctly
+	 * @throws NullPointerException if JSON string is null
+	 * @throws IndexOutOfBoundsException if offset is not inside of the characters
+	 */
+	public static JSON<?> parseAutoJSON(CharSequence json, int offset) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		if(json==null){ throw new NullPointerException("Json string cannot be null"); }
+		try {
+			return new JsonCharParser(json, offset, json.length(), new LineColumnTracker(offset)).readValue();
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
 	}
 	
 	/** Tries to parse the JSON string and automatically detect the JSON data type that is parsed
@@ -241,8 +400,65 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	protected static JSON<?> parseAutoJSON(String json, LineColumnTracker lct) throws JsonParseException, NullPointerException {
 		if(json==null){ throw new NullPointerException("Json string cannot be null"); }
 		try {
-			return parseAutoJSON(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
-		} catch (IOException e) { return null; }
+			return new JsonCharParser(json, 0, json.length(), lct).readValue();
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
+	}
+	
+	/** Tries to parse the JSON data from a byte array in UTF-8 and automatically detect the JSON data type that is parsed
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JSON<?> parseAutoJSON(byte[] json) throws JsonParseException, NullPointerException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		return parseAutoJSON(json, 0, json.length);
+	}
+	
+	/** Tries to parse the JSON data from a range of a byte array in UTF-8 and automatically detect the JSON data type that is parsed
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JSON<?> parseAutoJSON(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return parseAutoJSON(json, offset, length, null);
+	}
+	
+	/** Tries to parse the JSON data from a byte array in UTF-8 and automatically detect the JSON data type that is parsed
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JSON<?> parseAutoJSON(byte[] json, JsonParseOptions options) throws JsonParseException, NullPointerException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		return parseAutoJSON(json, 0, json.length, options);
+	}
+	
+	/** Tries to parse the JSON data from a range of a byte array in UTF-8 and automatically detect the JSON data type that is parsed
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JSON<?> parseAutoJSON(byte[] json, int offset, int length, JsonParseOptions options) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		try {
+			return new JsonByteParser(json, offset, length, new LineColumnTracker(), options).readValue();
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
 	}
 	
 	
@@ -254,8 +470,24 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws NullPointerException if {@link InputStream} is null
 	 */
 	public static JSON<?> parseAutoJSON(InputStream input) throws JsonParseException, NullPointerException, IOException{
+		return parseAutoJSON(input, (JsonParseOptions)null);
+	}
+	
+	/** Tries to parse the JSON data and automatically detect the JSON data type that is parsed
+	 * @param input Stream that should be parsed in UTF-8
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading {@link InputStream} occurred
+	 * @throws NullPointerException if {@link InputStream} is null
+	 */
+	public static JSON<?> parseAutoJSON(InputStream input, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
 		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
-		return parseAutoJSON(new UTF8CharInputStream(input), new LineColumnTracker());
+		if(JsonParseOptions.inMemory(options)){
+			byte[] json = readFully(input);
+			return new JsonByteParser(json, 0, json.length, new LineColumnTracker(), options).readValue();
+		}
+		return new JsonByteParser(input, new LineColumnTracker(), options).readValue();
 	}
 	
 	/** Tries to parse the JSON data and automatically detect the JSON data type that is parsed
@@ -270,6 +502,18 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 		return parseAutoJSON(input, new LineColumnTracker());
 	}
 	
+	/** Tries to parse the JSON data from a {@link Reader} and automatically detect the JSON data type that is parsed
+	 * @param reader Reader the characters should be read from
+	 * @return JSON data type that was detected containing the parsed information
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JSON<?> parseAutoJSON(Reader reader) throws JsonParseException, NullPointerException, IOException {
+		if(reader==null){ throw new NullPointerException("Reader cannot be null"); }
+		return new JsonCharParser(reader, new LineColumnTracker()).readValue();
+	}
+	
 	/**
 	 * Tries to parse the JSON data and automatically detect the JSON data type that is parsed
 	 * @param file File the JSON data should be read from
@@ -279,11 +523,62 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	 * @throws IOException if an error occurs while reading the {@link File}
 	 */
 	public static JSON<?> parseAutoJSON(File file) throws JsonParseException, NullPointerException, IOException{
+		return parseAutoJSON(file, null);
+	}
+	
+	/**
+	 * Tries to parse the JSON data and automatically detect the JSON data type that is parsed
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return JSON data type that was detected containing the parse information
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JSON<?> parseAutoJSON(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		InputStream input = openFile(file, options);
+		try {
+			return parseAutoJSON(input, options);
+		} finally {
+			try { input.close(); } catch (Exception e) {}
+		}
+	}
+	
+	/**
+	 * Opens a stream for reading the given file as configured in the options
+	 * @param file File that should be opened
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Stream that reads the file
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	static InputStream openFile(File file, JsonParseOptions options) throws NullPointerException, IOException {
 		if(file==null) throw new NullPointerException("File cannot be null");
-		FileInputStream input = new FileInputStream(file);
-		JSON<?> obj = parseAutoJSON(input);
-		try { input.close(); } catch (Exception e) {}
-		return obj;
+		if(options!=null && options.isMemoryMapped()) return new MappedInputStream(file);
+		return new FileInputStream(file);
+	}
+	
+	/**
+	 * Reads all remaining bytes of the given {@link InputStream}
+	 * @param input Stream that should be read
+	 * @return Array containing exactly the read bytes
+	 * @throws IOException if reading from the {@link InputStream} fails or there are more bytes than an array can hold
+	 */
+	static byte[] readFully(InputStream input) throws IOException {
+		if(input instanceof MappedInputStream) return ((MappedInputStream)input).readAll();
+		byte[] buf = new byte[Math.max(input.available(), 8192)];
+		int len = 0, n;
+		for(;;){
+			if(len==buf.length){
+				if((n = input.read())<0) break;
+				if(len==MappedInputStream.MAX_ARRAY_SIZE){ throw new IOException("Stream is too large to be read into memory (more than "+len+" bytes)"); }
+				buf = Arrays.copyOf(buf, (int)Math.min((long)buf.length<<1, MappedInputStream.MAX_ARRAY_SIZE));
+				buf[len++] = (byte)n;
+			}
+			if((n = input.read(buf, len, buf.length-len))<0) break;
+			len += n;
+		}
+		return len==buf.length ? buf : Arrays.copyOf(buf, len);
 	}
 	
 	/**
@@ -302,6 +597,119 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 		return obj;
 	}
 	
+	/**
+	 * Reads only the value at a JSON Pointer (RFC 6901) like "/meta/version".
+	 * Other values get skipped without being built and reading stops as soon as the
+	 * value has been parsed, so data after it is neither read nor checked for errors
+	 * and syntax errors inside of skipped objects and arrays are not detected.
+	 * If a key occurs more than once in an object its first value is used
+	 * @param input Stream that should be read in UTF-8, it does not get closed
+	 * @param pointer JSON Pointer of the value where "" selects the whole data
+	 * @return Value at the pointer or null if it does not exist
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading {@link InputStream} occurred
+	 * @throws IllegalArgumentException if pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if {@link InputStream} or pointer is null
+	 */
+	public static JSON<?> extract(InputStream input, String pointer) throws JsonParseException, IOException, IllegalArgumentException, NullPointerException {
+		return extractAll(input, new String[]{ pointer })[0];
+	}
+	
+	/**
+	 * Reads only the value at a JSON Pointer (RFC 6901) like "/meta/version".
+	 * Other values get skipped without being built and reading stops as soon as the
+	 * value has been parsed, so data after it is neither read nor checked for errors
+	 * and syntax errors inside of skipped objects and arrays are not detected.
+	 * If a key occurs more than once in an object its first value is used
+	 * @param file File the JSON data should be read from
+	 * @param pointer JSON Pointer of the value where "" selects the whole data
+	 * @return Value at the pointer or null if it does not exist
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 * @throws IllegalArgumentException if pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if file or pointer is null
+	 */
+	public static JSON<?> extract(File file, String pointer) throws JsonParseException, IOException, IllegalArgumentException, NullPointerException {
+		return extractAll(file, new String[]{ pointer })[0];
+	}
+	
+	/**
+	 * Reads only the value at a JSON Pointer (RFC 6901) like "/meta/version".
+	 * Other values get skipped without being built and parsing stops as soon as the
+	 * value has been parsed, so data after it is not checked for errors
+	 * and syntax errors inside of skipped objects and arrays are not detected.
+	 * If a key occurs more than once in an object its first value is used
+	 * @param json Bytes in UTF-8 that should be read
+	 * @param pointer JSON Pointer of the value where "" selects the whole data
+	 * @return Value at the pointer or null if it does not exist
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws IllegalArgumentException if pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if byte array or pointer is null
+	 */
+	public static JSON<?> extract(byte[] json, String pointer) throws JsonParseException, IllegalArgumentException, NullPointerException {
+		return extractAll(json, new String[]{ pointer })[0];
+	}
+	
+	/**
+	 * Reads only the values at several JSON Pointers (RFC 6901) in one pass.
+	 * Other values get skipped without being built and reading stops as soon as all
+	 * values have been parsed, see {@link #extract(InputStream, String)}
+	 * @param input Stream that should be read in UTF-8, it does not get closed
+	 * @param pointers JSON Pointers of the values where "" selects the whole data
+	 * @return Values in the order of the pointers, null for pointers that do not exist
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading {@link InputStream} occurred
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if {@link InputStream}, pointers or one of them is null
+	 */
+	public static JSON<?>[] extractAll(InputStream input, String... pointers) throws JsonParseException, IOException, IllegalArgumentException, NullPointerException {
+		final JsonExtractor extractor = new JsonExtractor(pointers);
+		return extractor.extract(new JsonReader(input));
+	}
+	
+	/**
+	 * Reads only the values at several JSON Pointers (RFC 6901) in one pass.
+	 * Other values get skipped without being built and reading stops as soon as all
+	 * values have been parsed, see {@link #extract(File, String)}
+	 * @param file File the JSON data should be read from
+	 * @param pointers JSON Pointers of the values where "" selects the whole data
+	 * @return Values in the order of the pointers, null for pointers that do not exist
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if file, pointers or one of them is null
+	 */
+	public static JSON<?>[] extractAll(File file, String... pointers) throws JsonParseException, IOException, IllegalArgumentException, NullPointerException {
+		final JsonExtractor extractor = new JsonExtractor(pointers);
+		JsonReader reader = new JsonReader(file);
+		try {
+			return extractor.extract(reader);
+		} finally {
+			try { reader.close(); } catch (Exception e) {}
+		}
+	}
+	
+	/**
+	 * Reads only the values at several JSON Pointers (RFC 6901) in one pass.
+	 * Other values get skipped without being built and parsing stops as soon as all
+	 * values have been parsed, see {@link #extract(byte[], String)}
+	 * @param json Bytes in UTF-8 that should be read
+	 * @param pointers JSON Pointers of the values where "" selects the whole data
+	 * @return Values in the order of the pointers, null for pointers that do not exist
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if byte array, pointers or one of them is null
+	 */
+	public static JSON<?>[] extractAll(byte[] json, String... pointers) throws JsonParseException, IllegalArgumentException, NullPointerException {
+		if(json==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		final JsonExtractor extractor = new JsonExtractor(pointers);
+		try {
+			return extractor.extract(new JsonReader(json));
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
+	}
+	
 	/** Tries to parse automatically detect JSON data from {@link UTF8CharInputStream}
 	 * @param json string that should be parsed
 	 * @param lct for offset, line and column tracking
@@ -362,42 +770,23 @@ public abstract class JSON<THIS extends JSON<THIS>> {
 	/** Skips whitespace and returns next valid char
 	 * @param input that should be checked for whitespace
 	 * @param lct for offset, line and column tracking
-	 * @param include_linebreak if line breaks should also be skipped
-	 * @return next valid char
-	 * @throws IOException 
+	 * @return next valid char or null if end of input has been reached
+	 * @throws IOException if an error occurs while reading the input
 	 */
 	protected static String skipIgnorers(UTF8CharInputStream input, LineColumnTracker lct) throws IOException {
 		if(lct==null){ throw new NullPointerException("LineColumnTracker cannot be null"); }
 		if(input==null){ return null; }
-		int index = 0;
-		boolean[] cancelChecking = new boolean[IGNORE_CHARS.length];
-		boolean cancel;
-		UTF8String buffer = new UTF8String();
 		String c;
 		while((c = input.readChar())!=null){
-			buffer.add(c);
-			cancel = true;
-			
-			for(int i=0; i<cancelChecking.length; i++) {
-				if(cancelChecking[i]) continue;
-				UTF8String ic = IGNORE_CHARS[i];
-				if(index < ic.length() && c.equals(ic.charAt(index))) {
-					if(index+1 < ic.length()) {
-						cancel = false;
-					} else {
-						if(!isLineBreaker(buffer)) {
-							lct.increaseColumn(buffer.length());
-						} else { lct.increaseLine(); }
-						return skipIgnorers(input, lct);
-					}
-				} else { cancelChecking[i] = true; }
+			if(c.length()!=1) return c;
+			char ch = c.charAt(0);
+			if(ch>=CHAR_CLASSES.length) return c;
+			switch (CHAR_CLASSES[ch]) {
+				case CLASS_WHITESPACE: lct.increaseColumn(); break;
+				case CLASS_LINE_BREAK: lct.increaseLine(); break;
+				default: return c;
 			}
-			if(cancel) {
-				break;
-			} index++;
 		}
-		if(buffer.length()==1) return buffer.toString(); // directly return single char in buffer
-		input.insertReadAgainAtBeginning(buffer); // put multiple read chars back and read only one char again
-		return buffer.isEmpty() ? null : input.readChar();
+		return null;
 	}
 }
@@ -3,9 +3,8 @@ package com.lupcode.JSON;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -24,7 +23,8 @@ import com.lupcode.Utilities.streams.UTF8CharInputStream;
  */
 public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 
-	private ArrayList<JSON<?>> values = new ArrayList<>();
+	private List<JSON<?>> values = new ArrayList<>(); // JsonNumberList if parsed from numbers of one kind
+	private volatile JsonByteParser.Span lazy; // cleared after values has been set
 	
 	public JsonArray() {
 		
@@ -48,62 +48,95 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 	
 	
 	public int size(){
-		return values.size();
+		return values().size();
 	}
 	
 	
 	public JSON<?> get(int index){
-		return values.get(index);
+		return values().get(index);
 	}
 	
 	public JsonObject getAsJsonObject(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? (JsonObject)obj : null;
 	}
 	
 	public JsonArray getAsJsonArray(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? (JsonArray)obj : null;
 	}
 	
 	public String getAsString(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonString)obj).getValue() : null;
 	}
 	
 	public Byte getAsByte(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsByte() : null;
 	}
 	
 	public Short getAsShort(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsShort() : null;
 	}
 	
 	public Integer getAsInt(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsInt() : null;
 	}
 	
 	public Long getAsLong(int index) {
-		JSON<?> obj = values.get(index);
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList) return ((JsonNumberList)list).getLong(index);
+		JSON<?> obj = list.get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsLong() : null;
 	}
 	
 	public Float getAsFloat(int index) {
-		JSON<?> obj = values.get(index);
+		JSON<?> obj = values().get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsFloat() : null;
 	}
 	
 	public Double getAsDouble(int index) {
-		JSON<?> obj = values.get(index);
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList) return ((JsonNumberList)list).getDouble(index);
+		JSON<?> obj = list.get(index);
 		return (obj!=null && !(obj instanceof JsonNull)) ? ((JsonNumber)obj).getAsDouble() : null;
 	}
 	
 	
+	/**
+	 * Returns all entries as doubles
+	 * @return New array containing the numbers
+	 * @throws ClassCastException if an entry is not a number
+	 */
+	public double[] toDoubleArray() throws ClassCastException {
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList) return ((JsonNumberList)list).toDoubleArray();
+		double[] arr = new double[list.size()];
+		for(int i=0; i<arr.length; i++) arr[i] = ((JsonNumber)list.get(i)).getAsDouble();
+		return arr;
+	}
+	
+	/**
+	 * Returns all entries as longs
+	 * @return New array containing the numbers
+	 * @throws ClassCastException if an entry is not a number
+	 * @throws NumberFormatException if a number is not an integer that fits into a long
+	 */
+	public long[] toLongArray() throws ClassCastException, NumberFormatException {
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList) return ((JsonNumberList)list).toLongArray();
+		long[] arr = new long[list.size()];
+		for(int i=0; i<arr.length; i++) arr[i] = ((JsonNumber)list.get(i)).getAsLong();
+		return arr;
+	}
+	
+	
 	public JsonArray insert(int index, JSON<?> value){
-		this.values.add(index, value!=null ? value : new JsonNull()); return this;
+		value = value!=null ? value : new JsonNull();
+		this.values(value).add(index, value); return this;
 	}
 	
 	public JsonArray insert(int index, String value){
@@ -139,7 +172,8 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 	}
 	
 	public JsonArray set(int index, JSON<?> value){
-		this.values.set(index, value!=null ? value : new JsonNull()); return this;
+		value = value!=null ? value : new JsonNull();
+		this.values(value).set(index, value); return this;
 	}
 	
 	public JsonArray set(int index, String value){
@@ -209,7 +243,8 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 	
 	@Override
 	public boolean add(JSON<?> e) {
-		return values.add(e!=null ? e : new JsonNull());
+		e = e!=null ? e : new JsonNull();
+		return values(e).add(e);
 	}
 	
 	public boolean addArray(JSON<?>... values){
@@ -223,156 +258,195 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 	public JsonArray addAll(JSON<?>... values){
 		if(values!=null){
 			for(JSON<?> json : values){
-				this.values.add(json!=null ? json : new JsonNull());
+				add(json);
 			}
 		} return this;
 	}
 	
 	public JSON<?> remove(int index){
-		return values.remove(index);
+		return values().remove(index);
 	}
 	
 	public boolean remove(JSON<?> object){
-		return values.remove(object);
+		return values().remove(object);
 	}
 	
 	public boolean contains(JSON<?> object){
-		return values.contains(object);
+		return values().contains(object);
 	}
 	
 	public List<JSON<?>> toList(int fromIndex, int toIndex){
-		return new ArrayList<>(values.subList(fromIndex, toIndex));
+		return new ArrayList<>(values().subList(fromIndex, toIndex));
 	}
 	
 	public List<JSON<?>> toList(){
-		return new ArrayList<>(values);
+		return new ArrayList<>(values());
 	}
 	
 	public JsonObject toJsonObject(){
-		return new JsonObject(values);
+		return new JsonObject(values());
 	}
 	
-	@Override
-	protected void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException {
-		output.write("[".getBytes(StandardCharsets.UTF_8));
-		if(!values.isEmpty()){
-			if(prettyPrint){
-				boolean notFirst = false;
-				String ws = (whitespace + SPACER);
-				byte[] wsArr = (whitespace + SPACER).getBytes(StandardCharsets.UTF_8);
-				for(JSON<?> obj : values){
-					if(notFirst) output.write(",".getBytes(StandardCharsets.UTF_8)); else notFirst = true;
-					output.write(LINE_BREAKER.getBytes());
-					output.write(wsArr);
-					obj.toJSON(output, prettyPrint, ws);
-				}
-				output.write(LINE_BREAKER.getBytes());
-				output.write(whitespace.getBytes(StandardCharsets.UTF_8));
-				
-			} else {
-				boolean notFirst = false;
-				for(JSON<?> obj : values){
-					if(notFirst) output.write(",".getBytes(StandardCharsets.UTF_8)); else notFirst = true;
-					obj.toJSON(output, prettyPrint, whitespace);
+	/** Marks this array to be parsed from the given byte range on first access
+	 * @param span Byte range of the array
+	 * @return This instance
+	 */
+	JsonArray lazy(JsonByteParser.Span span){
+		this.values = null;
+		this.lazy = span;
+		return this;
+	}
+	
+	/** Returns the values and parses them first if this array has been parsed lazily
+	 * @return Values of this array
+	 * @throws JsonParseException if the byte range could not be parsed correctly
+	 */
+	private List<JSON<?>> values() throws JsonParseException {
+		final JsonByteParser.Span span = lazy;
+		if(span!=null){
+			synchronized(span){ // parsed once even if several threads read it for the first time
+				if(lazy!=null){
+					values = span.readArray();
+					lazy = null;
 				}
 			}
 		}
-		output.write("]".getBytes(StandardCharsets.UTF_8));
+		return values;
+	}
+	
+	/** Returns the values in a list that can hold the given value,
+	 * numbers stored in primitive arrays get converted if the value is no number.
+	 * The converted list holds views of the primitive arrays, so entries handed out before stay valid
+	 * @param value Value that should be stored
+	 * @return Values of this array
+	 * @throws JsonParseException if the byte range could not be parsed correctly
+	 */
+	private List<JSON<?>> values(JSON<?> value) throws JsonParseException {
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList && !((JsonNumberList)list).accepts(value)) values = list = new ArrayList<>(list);
+		return list;
+	}
+	
+	@Override
+	void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
+		final JsonByteParser.Span span = lazy;
+		if(span!=null && !prettyPrint && span.isCanonical()){ span.writeTo(writer); return; }
+		writer.write('[');
+		List<JSON<?>> list = values();
+		if(list instanceof JsonNumberList){
+			JsonNumberList numbers = (JsonNumberList)list;
+			for(int i=0; i<numbers.size(); i++){
+				if(i>0) writer.write(',');
+				if(prettyPrint) writer.newLine(depth+1);
+				numbers.write(writer, i);
+			}
+			if(prettyPrint && !numbers.isEmpty()) writer.newLine(depth);
+		} else if(!list.isEmpty()){
+			boolean notFirst = false;
+			for(JSON<?> obj : list){
+				if(notFirst) writer.write(','); else notFirst = true;
+				if(prettyPrint) writer.newLine(depth+1);
+				obj.toJSON(writer, prettyPrint, depth+1);
+			}
+			if(prettyPrint) writer.newLine(depth);
+		}
+		writer.write(']');
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return values.isEmpty();
+		return values().isEmpty();
 	}
 
 	@Override
 	public boolean contains(Object o) {
-		return values.contains(o);
+		return values().contains(o);
 	}
 
 	@Override
 	public Iterator<JSON<?>> iterator() {
-		return values.iterator();
+		return values().iterator();
 	}
 
 	@Override
 	public Object[] toArray() {
-		return values.toArray();
+		return values().toArray();
 	}
 
 	@Override
 	public <T> T[] toArray(T[] a) {
-		return values.toArray(a);
+		return values().toArray(a);
 	}
 
 	@Override
 	public boolean remove(Object o) {
-		return values.remove(o);
+		return values().remove(o);
 	}
 
 	@Override
 	public boolean containsAll(Collection<?> c) {
-		return values.containsAll(c);
+		return values().containsAll(c);
 	}
 
 	@Override
 	public boolean addAll(Collection<? extends JSON<?>> c) {
 		boolean v = true;
 		for(JSON<?> o : c) {
-			v &= values.add(o!=null ? o : new JsonNull());
+			v &= add(o);
 		} return v;
 	}
 
 	@Override
 	public boolean addAll(int index, Collection<? extends JSON<?>> c) {
 		for(JSON<?> o : c) {
-			values.add(index++, o!=null ? o : new JsonNull());
+			add(index++, o);
 		} return true;
 	}
 
 	@Override
 	public boolean removeAll(Collection<?> c) {
-		return values.removeAll(c);
+		return values().removeAll(c);
 	}
 
 	@Override
 	public boolean retainAll(Collection<?> c) {
-		return values.retainAll(c);
+		return values().retainAll(c);
 	}
 
 	@Override
 	public void clear() {
-		values.clear();
+		values().clear();
 	}
 
 	@Override
 	public void add(int index, JSON<?> element) {
-		values.add(index, element!=null ? element : new JsonNull());
+		element = element!=null ? element : new JsonNull();
+		values(element).add(index, element);
 	}
 
 	@Override
 	public int indexOf(Object o) {
-		return values.indexOf(o!=null ? o : new JsonNull());
+		return values().indexOf(o!=null ? o : new JsonNull());
 	}
 
 	@Override
 	public int lastIndexOf(Object o) {
-		return values.lastIndexOf(o!=null ? o : new JsonNull());
+		return values().lastIndexOf(o!=null ? o : new JsonNull());
 	}
 
 	@Override
 	public ListIterator<JSON<?>> listIterator() {
-		return values.listIterator();
+		return values().listIterator();
 	}
 
 	@Override
 	public ListIterator<JSON<?>> listIterator(int index) {
-		return values.listIterator(index);
+		return values().listIterator(index);
 	}
 
 	@Override
 	public List<JSON<?>> subList(int fromIndex, int toIndex) {
-		return values.subList(fromIndex, toIndex);
+		return values().subList(fromIndex, toIndex);
 	}
 
 	
@@ -385,7 +459,7 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 		
 		c = skipIgnorers(input, lct);
 		if(c==null){ throw new JsonParseUnfinishedException(lct); }
-		if(c.equals("]")){ lct.increaseColumn(); this.values.clear(); return this; }
+		if(c.equals("]")){ lct.increaseColumn(); this.values().clear(); return this; }
 		
 		input.insertReadAgainAtBeginning(c);
 		
@@ -409,11 +483,23 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 		if(!c.equals("]")){ throw new JsonParseException(']', c, lct); }
 		lct.increaseColumn();
 		
-		this.values = list;
+		this.values = list; if(lazy!=null) lazy = null;
 		return this;
 	}
 	
 	
+	@Override
+	JsonArray parseJSON(JsonByteParser parser) throws JsonParseException, IOException {
+		this.values = parser.readArray(); if(lazy!=null) lazy = null;
+		return this;
+	}
+	
+	@Override
+	JsonArray parseJSON(JsonCharParser parser) throws JsonParseException, IOException {
+		this.values = parser.readArray(); if(lazy!=null) lazy = null;
+		return this;
+	}
+	
 	/** Tries to parse a given JSON string as a {@link JsonArray}
 	 * @param json String that should be parsed
 	 * @return Parsed JSON array
@@ -435,6 +521,51 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 		return new JsonArray().parseJSON(json, offset);
 	}
 	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonArray}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return Parsed JSON array
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonArray parse(byte[] json) throws JsonParseException, NullPointerException {
+		return new JsonArray().parseJSON(json);
+	}
+	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonArray}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON array
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonArray parse(byte[] json, JsonParseOptions options) throws JsonParseException, NullPointerException {
+		return new JsonArray().parseJSON(json, options);
+	}
+	
+	/** Tries to parse a given range of a byte array in UTF-8 as a {@link JsonArray}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return Parsed JSON array
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JsonArray parse(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return new JsonArray().parseJSON(json, offset, length);
+	}
+	
+	/** Tries to parse a {@link JsonArray} from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return Parsed JSON array
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JsonArray parse(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		return new JsonArray().parseJSON(reader);
+	}
+	
 	/** Tries to parse a {@link JsonArray} from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
 	 * @return Parse JSON array
@@ -458,6 +589,19 @@ public class JsonArray extends JSON<JsonArray> implements List<JSON<?>> {
 		return new JsonArray().parseJSON(file);
 	}
 	
+	/**
+	 * Tries to parse a {@link JsonArray} from a given {@link File}
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON array
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JsonArray parse(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		return new JsonArray().parseJSON(file, options);
+	}
+	
 	/**
 	 * Tries to parse a {@link JsonArray} from a given {@link URL}
 	 * @param url URL the JSON data should be read from
@@ -3,9 +3,8 @@ package com.lupcode.JSON;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 
 import com.lupcode.JSON.exceptions.JsonParseException;
 import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
@@ -46,8 +45,8 @@ public class JsonBoolean extends JSON<JsonBoolean> {
 	}
 	
 	@Override
-	protected void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException {
-		output.write((value ? "true" : "false").getBytes(StandardCharsets.UTF_8));
+	void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
+		writer.write(value ? JsonWriter.TRUE : JsonWriter.FALSE);
 	}
 
 	@Override
@@ -109,6 +108,18 @@ public class JsonBoolean extends JSON<JsonBoolean> {
 	}
 	
 	
+	@Override
+	JsonBoolean parseJSON(JsonByteParser parser) throws JsonParseException, IOException {
+		this.value = parser.readBoolean();
+		return this;
+	}
+	
+	@Override
+	JsonBoolean parseJSON(JsonCharParser parser) throws JsonParseException, IOException {
+		this.value = parser.readBoolean();
+		return this;
+	}
+	
 	/** Tries to parse a given JSON string as an {@link JsonBoolean}
 	 * @param json String that should be parsed
 	 * @return Parsed JSON boolean
@@ -130,6 +141,40 @@ public class JsonBoolean extends JSON<JsonBoolean> {
 		return new JsonBoolean().parseJSON(json, offset);
 	}
 	
+	/** Tries to parse a given byte array in UTF-8 as an {@link JsonBoolean}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return Parsed JSON boolean
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonBoolean parse(byte[] json) throws JsonParseException, NullPointerException {
+		return new JsonBoolean().parseJSON(json);
+	}
+	
+	/** Tries to parse a given range of a byte array in UTF-8 as an {@link JsonBoolean}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return Parsed JSON boolean
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JsonBoolean parse(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return new JsonBoolean().parseJSON(json, offset, length);
+	}
+	
+	/** Tries to parse an {@link JsonBoolean} from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return Parsed JSON boolean
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JsonBoolean parse(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		return new JsonBoolean().parseJSON(reader);
+	}
+	
 	/** Tries to parse a {@link JsonBoolean} from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
 	 * @return Parse JSON boolean
@@ -153,6 +198,19 @@ public class JsonBoolean extends JSON<JsonBoolean> {
 		return new JsonBoolean().parseJSON(file);
 	}
 	
+	/**
+	 * Tries to parse a {@link JsonBoolean} from a given {@link File}
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON boolean
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JsonBoolean parse(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		return new JsonBoolean().parseJSON(file, options);
+	}
+	
 	/**
 	 * Tries to parse a {@link JsonBoolean} from a given {@link URL}
 	 * @param url URL the JSON data should be read from
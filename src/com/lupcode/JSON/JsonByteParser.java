@@ -0,0 +1,1413 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.lupcode.JSON.exceptions.JsonParseException;
+import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Parser that reads JSON data directly from UTF-8 encoded bytes
+ * by moving an integer cursor over the given array or over a reusable
+ * block buffer that gets refilled from an {@link InputStream}.
+ * Characters are only decoded in bulk once a whole string has been read.
+ * Accepts the same lenient syntax as the character based parsers.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+class JsonByteParser {
+
+	private static final char[] NUMBER_CHARS = new char[]{'0','1','2','3','4','5','6','7','8','9','-','+','.'};
+	private static final char[] DIGIT_CHARS = new char[]{'0','1','2','3','4','5','6','7','8','9'};
+	private static final char[] QUOTE_CHARS = new char[]{'"', '\''};
+	private static final char[] HEX_CHARS = "0123456789abcdefABCDEF".toCharArray();
+
+	private static final int BLOCK_SIZE = 16384;
+
+	/** Arrays at the root with fewer bytes are parsed sequentially even if parallel parsing is enabled */
+	static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	/** Minimum amount of bytes of a slice of entries that gets parsed by one task */
+	private static final int MIN_SLICE_SIZE = 1 << 16;
+
+	/** Objects of lazy ranges with more keys are not checked for duplicates and get written from the parsed value */
+	private static final int MAX_CANONICAL_KEYS = 1024;
+
+	protected byte[] buf;
+	protected int pos, end;
+	private int start;
+	private final LineColumnTracker origin;
+	private final InputStream input;
+	private final JsonParseOptions options;
+	private final boolean lazy;
+	private boolean parallel; // cleared once the first object or array has been started
+	private boolean escapes = false; // decode escape sequences instead of taking the character after a backslash as it is
+	private final JsonKeyCache keys;
+	private byte[] scratch = null;
+	private String[] memberKeys = new String[16]; // members of all objects that are currently being parsed
+	private JSON<?>[] memberValues = new JSON<?>[16];
+	private int members = 0;
+	private final JsonNumberScanner scanner = new JsonNumberScanner();
+	private final JsonNumberList.Builder numbers = new JsonNumberList.Builder(); // numbers of the array that is currently being parsed
+	private final JsonShape.Cache shapes;
+	private JsonProjection projection; // fields of the current value that get built or null for all
+	private int[] canonicalStack = null; // index of the first key of open objects or -1 for arrays while checking lazy ranges
+	private int[] canonicalKeys = null; // hash, start and end of the keys of open objects while checking lazy ranges
+
+	/**
+	 * Creates a parser that reads from the given range of bytes
+	 * @param buf Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @param lct Line and column where the given range starts
+	 */
+	JsonByteParser(byte[] buf, int offset, int length, LineColumnTracker lct){
+		this(buf, offset, length, lct, null);
+	}
+
+	/**
+	 * Creates a parser that reads from the given range of bytes
+	 * @param buf Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @param lct Line and column where the given range starts
+	 * @param options Options how the data should be parsed (null for default options)
+	 */
+	JsonByteParser(byte[] buf, int offset, int length, LineColumnTracker lct, JsonParseOptions options){
+		this(buf, offset, length, lct, options, JsonParseOptions.keyCache(options), new JsonShape.Cache());
+	}
+
+	/**
+	 * Creates a parser that reads from the given range of bytes
+	 * @param buf Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @param lct Line and column where the given range starts
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @param keys Cache for object keys or null if keys should always be decoded
+	 * @param shapes Cache for the shapes of parsed objects
+	 */
+	JsonByteParser(byte[] buf, int offset, int length, LineColumnTracker lct, JsonParseOptions options, JsonKeyCache keys, JsonShape.Cache shapes){
+		if(buf==null){ throw new NullPointerException("Json bytes cannot be null"); }
+		if(offset<0 || length<0 || offset+length>buf.length)
+			throw new IndexOutOfBoundsException("offset="+offset+", length="+length+", size="+buf.length);
+		this.buf = buf;
+		this.pos = offset;
+		this.start = offset;
+		this.end = offset + length;
+		this.origin = lct!=null ? lct.clone() : new LineColumnTracker();
+		this.input = null;
+		this.options = options;
+		this.lazy = options!=null && options.isLazy();
+		this.parallel = options!=null && options.isParallel();
+		this.keys = keys;
+		this.shapes = shapes;
+		this.projection = JsonParseOptions.projection(options);
+	}
+
+	/**
+	 * Creates a parser that reads block wise from the given {@link InputStream}.
+	 * The stream may be read beyond the end of the parsed JSON data
+	 * @param input Stream in UTF-8 that should be parsed
+	 * @param lct Line and column where the stream starts
+	 */
+	JsonByteParser(InputStream input, LineColumnTracker lct){
+		this(input, lct, null);
+	}
+
+	/**
+	 * Creates a parser that reads block wise from the given {@link InputStream}.
+	 * The stream may be read beyond the end of the parsed JSON data.
+	 * Lazy parsing is not supported because the blocks get reused
+	 * @param input Stream in UTF-8 that should be parsed
+	 * @param lct Line and column where the stream starts
+	 * @param options Options how the data should be parsed (null for default options)
+	 */
+	JsonByteParser(InputStream input, LineColumnTracker lct, JsonParseOptions options){
+		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
+		this.input = input;
+		this.buf = new byte[BLOCK_SIZE];
+		this.origin = lct!=null ? lct.clone() : new LineColumnTracker();
+		this.options = options;
+		this.lazy = false;
+		this.parallel = false;
+		this.keys = JsonParseOptions.keyCache(options);
+		this.shapes = new JsonShape.Cache();
+		this.projection = JsonParseOptions.projection(options);
+	}
+
+	/**
+	 * Creates a parser whose bytes get appended in chunks with {@link #append(ByteBuffer)}.
+	 * Parsing treats the end of the appended bytes as end of the data, so callers have to make
+	 * sure a value is completely available first. Lazy and parallel parsing are not supported
+	 * because the bytes get moved when new chunks are appended
+	 * @param options Options how the data should be parsed (null for default options)
+	 */
+	JsonByteParser(JsonParseOptions options){
+		this.input = null;
+		this.buf = new byte[BLOCK_SIZE];
+		this.origin = new LineColumnTracker();
+		this.options = options;
+		this.lazy = false;
+		this.parallel = false;
+		this.keys = JsonParseOptions.keyCache(options);
+		this.shapes = new JsonShape.Cache();
+		this.projection = JsonParseOptions.projection(options);
+	}
+
+	/** Parses the next value and automatically detects its JSON data type
+	 * @return Parsed JSON data
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	JSON<?> readValue() throws JsonParseException, IOException {
+		switch (skipWhitespace()) {
+			case '{': return new JsonObject().parseJSON(this);
+			case '[': return new JsonArray().parseJSON(this);
+			case '\'':
+			case '"': return new JsonString().parseJSON(this);
+			case 't':
+			case 'T':
+			case 'f':
+			case 'F': return new JsonBoolean().parseJSON(this);
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+			case '.': return new JsonNumber().parseJSON(this);
+			case 'n':
+			case 'N': return new JsonNull().parseJSON(this);
+			case -1: throw new JsonParseUnfinishedException(position(pos));
+			default: throw new JsonParseException("Could not detect json data type at "+position(pos).toString());
+		}
+	}
+
+	/** Parses the value of an object member or array entry.
+	 * In lazy mode objects and arrays only get skipped and their byte range is recorded
+	 * @return Parsed JSON data or an object or array that gets parsed on first access
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private JSON<?> readMember() throws JsonParseException, IOException {
+		if(lazy && projection==null){
+			int b = skipWhitespace();
+			if(b=='{' || b=='['){
+				final int from = pos;
+				final boolean canonical = skipCanonical();
+				Span span = new Span(this, from, pos, canonical);
+				return b=='{' ? new JsonObject().lazy(span) : new JsonArray().lazy(span);
+			}
+		}
+		return readValue();
+	}
+
+	/** Parses the members of a JSON object including its braces
+	 * @return Members in the order they have been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	JsonMap readObject() throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException('{', position(pos)); }
+		if(b!='{'){ throw new JsonParseException('{', actualChar(pos), position(pos)); }
+		pos++;
+		parallel = false; // arrays inside of objects are not at the root
+
+		final int base = members;
+		final JsonProjection scope = projection;
+		b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		while(b!='}'){
+			String key = readKey();
+			b = skipWhitespace();
+			if(b<0){ throw new JsonParseUnfinishedException(':', position(pos)); }
+			if(b!=':'){ throw new JsonParseException(':', actualChar(pos), position(pos)); }
+			pos++;
+
+			if(scope==null){
+				pushMember(key, readMember());
+			} else if(enter(scope.member(key))){
+				pushMember(key, readMember());
+				projection = scope;
+			} else skipValue(false);
+
+			b = skipWhitespace();
+			if(b!=','){ break; }
+			pos++;
+			b = skipWhitespace(); // check if empty ','
+		}
+		if(b<0){ throw new JsonParseUnfinishedException('}', position(pos)); }
+		if(b!='}'){ throw new JsonParseException('}', actualChar(pos), position(pos)); }
+		pos++;
+		JsonMap map = shapes.map(memberKeys, memberValues, base, members);
+		Arrays.fill(memberValues, base, members, null);
+		members = base;
+		return map;
+	}
+
+	/** Adds a member to the stack of members whose objects are not finished yet
+	 * @param key Key of the member
+	 * @param value Value of the member
+	 */
+	private void pushMember(String key, JSON<?> value){
+		if(members==memberKeys.length){
+			memberKeys = Arrays.copyOf(memberKeys, members<<1);
+			memberValues = Arrays.copyOf(memberValues, members<<1);
+		}
+		memberKeys[members] = key;
+		memberValues[members++] = value;
+	}
+
+	/** Parses the value of a single line of newline delimited JSON data.
+	 * Only the given range gets read, so a value cannot continue on the next line.
+	 * Only supported by parsers that read from a byte array
+	 * @param from Index of the first byte of the line
+	 * @param to Index of the line break or of the end of the data
+	 * @return Parsed value or null if the line only contains whitespace
+	 * @throws JsonParseException if the line could not be parsed correctly or contains more than one value
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	JSON<?> readLine(int from, int to) throws JsonParseException, IOException {
+		pos = from;
+		end = to;
+		if(skipWhitespace()<0) return null;
+		JSON<?> value = readValue();
+		if(skipWhitespace()>=0){ throw new JsonParseException('\n', actualChar(pos), position(pos)); }
+		return value;
+	}
+
+	/** Parses the next value of newline delimited JSON data that is read from the {@link InputStream}.
+	 * Blank lines get skipped and only whitespace may follow the value on its line
+	 * @return Parsed value or null if the end of the data has been reached
+	 * @throws JsonParseException if data could not be parsed correctly or a line contains more than one value
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	JSON<?> readRecord() throws JsonParseException, IOException {
+		if(skipWhitespace()<0) return null;
+		JSON<?> value = readValue();
+		for(;;){
+			if(pos>=end && !loadMore()) return value;
+			final byte c = buf[pos];
+			if(c=='\n'){ pos++; return value; }
+			if(JSON.CHAR_CLASSES[c & 0xFF]!=JSON.CLASS_WHITESPACE){ throw new JsonParseException('\n', actualChar(pos), position(pos)); }
+			pos++;
+		}
+	}
+
+	/** Parses the next entry of an array whose entries get read one at a time,
+	 * so the entries of large arrays can be handled before the whole array has been read
+	 * @param first True if the opening bracket of the array has not been read yet
+	 * @return Parsed entry or null if the array has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	JSON<?> readEntry(boolean first) throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(first){
+			if(b<0){ throw new JsonParseUnfinishedException('[', position(pos)); }
+			if(b!='['){ throw new JsonParseException('[', actualChar(pos), position(pos)); }
+			pos++;
+			b = skipWhitespace();
+		} else if(b==','){
+			pos++;
+			b = skipWhitespace(); // check if empty ','
+		} else {
+			if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+			if(b!=']'){ throw new JsonParseException(']', actualChar(pos), position(pos)); }
+			pos++;
+			return null;
+		}
+		if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		if(b==']'){ pos++; return null; }
+		return readMember();
+	}
+
+	/** Parses the entries of a JSON array including its brackets.
+	 * Arrays that only contain integers or only contain floating point numbers
+	 * in their shortest form are stored in a {@link JsonNumberList}
+	 * @return Entries in the order they have been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	List<JSON<?>> readArray() throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException('[', position(pos)); }
+		if(b!='['){ throw new JsonParseException('[', actualChar(pos), position(pos)); }
+		if(parallel){
+			parallel = false; // only the array at the root, objects clear it as well
+			if(projection==null && end-pos>=PARALLEL_THRESHOLD){
+				List<JSON<?>> entries = readArrayParallel();
+				if(entries!=null) return entries;
+			}
+		}
+		pos++;
+
+		ArrayList<JSON<?>> list = null; // only created once the entries are not all numbers of one kind
+		JsonNumber number = null;
+		int index = 0;
+		numbers.reset();
+		final JsonProjection scope = projection;
+		b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		while(b!=']'){
+			if(scope!=null && !enter(scope.entry(index++))){
+				skipValue(false);
+			} else if(list==null && ((b>='0' && b<='9') || b=='-' || b=='+' || b=='.')){
+				if(number==null) number = new JsonNumber();
+				readNumber(number);
+				if(!numbers.add(number)){
+					list = numbers.toList();
+					list.add(number);
+				}
+			} else {
+				if(list==null) list = numbers.toList();
+				list.add(readMember());
+			}
+			projection = scope;
+
+			b = skipWhitespace();
+			if(b!=','){ break; }
+			pos++;
+			b = skipWhitespace(); // check if empty ','
+		}
+		if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		if(b!=']'){ throw new JsonParseException(']', actualChar(pos), position(pos)); }
+		pos++;
+		return list!=null ? list : numbers.build();
+	}
+
+	/** Parses the array at the current position by splitting its entries into slices
+	 * that get parsed in parallel by tasks of the {@link ForkJoinPool}
+	 * @return Entries in the order they have been written or null if the array contains an error,
+	 * in that case it has to be parsed sequentially to report the error at the right position
+	 */
+	private List<JSON<?>> readArrayParallel(){
+		final int[] bounds = splitEntries();
+		if(bounds==null) return null;
+		int count = bounds.length-1;
+		final JSON<?>[] entries = new JSON<?>[count];
+		final ForkJoinPool pool = JsonParseOptions.pool(options);
+
+		// group neighboring entries into slices of similar size
+		final int sliceSize = Math.max(MIN_SLICE_SIZE, (bounds[count]-bounds[0]) / (pool.getParallelism()*4));
+		int[] slices = new int[16];
+		int slice = 0;
+		for(int i=0; i<count; ){
+			if(slice+1>=slices.length) slices = Arrays.copyOf(slices, slices.length<<1);
+			slices[slice++] = i;
+			final int limit = bounds[i] + sliceSize;
+			do { i++; } while(i<count && bounds[i]<limit);
+		}
+		slices[slice] = count;
+
+		Slices task = new Slices(this, bounds, entries, slices, 0, slice);
+		pool.invoke(task);
+		if(task.failed) return null;
+		pos = bounds[count]+1;
+		if(count>0 && entries[count-1]==null) count--; // trailing ','
+		return toList(entries, count);
+	}
+
+	/** Finds the separators between the entries of the array at the current position
+	 * by only counting brackets outside of strings
+	 * @return Index of the opening bracket, of every ',' between entries and of the closing bracket
+	 * or null if the closing bracket is missing
+	 */
+	private int[] splitEntries(){
+		int[] bounds = new int[1024];
+		int count = 0, depth = 0;
+		bounds[count++] = pos;
+		for(int i=pos; i<end; i++){
+			switch (buf[i]) {
+				case '{':
+				case '[': depth++; break;
+				case '}':
+				case ']':
+					if(--depth==0){
+						if(buf[i]!=']') return null;
+						if(count==bounds.length) bounds = Arrays.copyOf(bounds, count+1);
+						bounds[count++] = i;
+						return Arrays.copyOf(bounds, count);
+					}
+					break;
+				case ',':
+					if(depth==1){
+						if(count==bounds.length) bounds = Arrays.copyOf(bounds, count<<1);
+						bounds[count++] = i;
+					}
+					break;
+				case '"':
+				case '\'':
+					final byte quote = buf[i];
+					for(i++; i<end && buf[i]!=quote; i++){
+						if(buf[i]=='\\') i++;
+					}
+					break;
+			}
+		}
+		return null;
+	}
+
+	/** Converts parsed entries into a list, numbers of one kind get stored in a {@link JsonNumberList}
+	 * @param entries Parsed entries
+	 * @param count Amount of entries
+	 * @return List containing the entries
+	 */
+	private static List<JSON<?>> toList(JSON<?>[] entries, int count){
+		final JsonNumberList.Builder numbers = new JsonNumberList.Builder();
+		int i = 0;
+		while(i<count && entries[i] instanceof JsonNumber && numbers.add((JsonNumber)entries[i])) i++;
+		if(i==count) return numbers.build();
+		ArrayList<JSON<?>> list = new ArrayList<>(count);
+		for(i=0; i<count; i++) list.add(entries[i]);
+		return list;
+	}
+
+	/** Parses a string that is enclosed by single or double quotes.
+	 * A backslash causes the following character to be taken as it is
+	 * @return Value of the string
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	String readString() throws JsonParseException, IOException {
+		return readString(null);
+	}
+
+	/** Parses an object key that is enclosed by single or double quotes.
+	 * Keys without backslashes are taken from the key cache if enabled
+	 * @return Value of the key
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	String readKey() throws JsonParseException, IOException {
+		return readString(keys);
+	}
+
+	/** Parses a string that is enclosed by single or double quotes
+	 * @param cache Cache the string should be taken from or null to always decode it
+	 * @return Value of the string
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private String readString(JsonKeyCache cache) throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(QUOTE_CHARS, position(pos)); }
+		if(b!='"' && b!='\''){ throw new JsonParseException(QUOTE_CHARS, actualChar(pos), position(pos)); }
+		final byte quote = (byte)b;
+		final int s = ++pos;
+		for(int i=s; i<end; i++){
+			byte c = buf[i];
+			if(c==quote){
+				pos = i+1;
+				return cache!=null ? cache.get(buf, s, i) : new String(buf, s, i-s, StandardCharsets.UTF_8);
+			}
+			if(c=='\\') break;
+		}
+		return readBufferedString(quote, s);
+	}
+
+	/** Reads a string into the scratch buffer because it either contains
+	 * backslashes or continues behind the currently loaded block
+	 * @param quote Quote the string has been opened with
+	 * @param i Index of the first character of the string
+	 * @return Value of the string
+	 * @throws JsonParseException if the string is not terminated
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private String readBufferedString(byte quote, int i) throws JsonParseException, IOException {
+		int len = 0;
+		for(;;){
+			int run = i;
+			while(i<end && buf[i]!=quote && buf[i]!='\\') i++;
+			len = append(run, i, len);
+			if(i<end){
+				if(buf[i]==quote){
+					pos = i+1;
+					return new String(scratch, 0, len, StandardCharsets.UTF_8);
+				}
+				if(++i>=end){ // backslash is last byte of block
+					pos = i;
+					if(!loadMore()) break;
+					i = pos;
+				}
+				if(escapes){
+					len = unescape(i, len);
+					i = pos;
+					continue;
+				}
+				scratch(len+1)[len++] = buf[i++];
+				continue;
+			}
+			pos = end;
+			if(!loadMore()) break;
+			i = pos;
+		}
+		throw new JsonParseUnfinishedException((char)quote, position(pos));
+	}
+
+	/** Enables decoding of the escape sequences of the JSON standard (\n, \r, \t, \b, \f and &#92;uXXXX)
+	 * in strings and keys, used for newline delimited JSON data which {@link JsonLinesWriter} writes with them.
+	 * Otherwise the character after a backslash is taken as it is
+	 * @return This instance
+	 */
+	JsonByteParser decodeEscapes(){
+		this.escapes = true; return this;
+	}
+
+	/** Decodes the escape sequence behind a backslash into the scratch buffer
+	 * @param i Index of the character after the backslash, {@link #pos} gets set behind the sequence
+	 * @param len Amount of bytes in the scratch buffer
+	 * @return New amount of bytes in the scratch buffer
+	 * @throws JsonParseException if a unicode escape is not followed by four hex digits
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private int unescape(int i, int len) throws JsonParseException, IOException {
+		byte c = buf[i];
+		pos = i+1;
+		switch(c){
+			case 'n': c = '\n'; break;
+			case 'r': c = '\r'; break;
+			case 't': c = '\t'; break;
+			case 'b': c = '\b'; break;
+			case 'f': c = '\f'; break;
+			case 'u':
+				int code = readHex();
+				if(code>=0xD800 && code<=0xDBFF && available() && buf[pos]=='\\'){ // high surrogate, low one may follow
+					pos++;
+					if(!available()) return appendCodePoint(code, len); // string is not terminated
+					if(buf[pos]!='u'){
+						len = appendCodePoint(code, len); // lone surrogate gets replaced when decoding
+						return unescape(pos, len);
+					}
+					pos++;
+					int low = readHex();
+					if(low>=0xDC00 && low<=0xDFFF) return appendCodePoint(Character.toCodePoint((char)code, (char)low), len);
+					len = appendCodePoint(code, len);
+					code = low;
+				}
+				return appendCodePoint(code, len);
+		}
+		scratch(len+1)[len++] = c;
+		return len;
+	}
+
+	/** Reads four hex digits at the current position
+	 * @return Value of the digits
+	 * @throws JsonParseException if the digits are missing or invalid
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private int readHex() throws JsonParseException, IOException {
+		int code = 0;
+		for(int k=0; k<4; k++){
+			if(!available()){ throw new JsonParseUnfinishedException(HEX_CHARS, position(pos)); }
+			final int digit = Character.digit(buf[pos], 16);
+			if(digit<0){ throw new JsonParseException(HEX_CHARS, actualChar(pos), position(pos)); }
+			code = (code<<4) | digit;
+			pos++;
+		}
+		return code;
+	}
+
+	/** Returns if a byte is available at the current position and loads the next block if needed
+	 * @return True if {@link #pos} points to a byte
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean available() throws IOException {
+		return pos<end || loadMore();
+	}
+
+	/** Appends a character in UTF-8 to the scratch buffer
+	 * @param code Code point of the character
+	 * @param len Amount of bytes in the scratch buffer
+	 * @return New amount of bytes in the scratch buffer
+	 */
+	private int appendCodePoint(int code, int len){
+		final byte[] s = scratch(len+4);
+		if(code<0x80){
+			s[len++] = (byte)code;
+		} else if(code<0x800){
+			s[len++] = (byte)(0xC0 | code>>6);
+			s[len++] = (byte)(0x80 | code & 0x3F);
+		} else if(code<0x10000){
+			s[len++] = (byte)(0xE0 | code>>12);
+			s[len++] = (byte)(0x80 | code>>6 & 0x3F);
+			s[len++] = (byte)(0x80 | code & 0x3F);
+		} else {
+			s[len++] = (byte)(0xF0 | code>>18);
+			s[len++] = (byte)(0x80 | code>>12 & 0x3F);
+			s[len++] = (byte)(0x80 | code>>6 & 0x3F);
+			s[len++] = (byte)(0x80 | code & 0x3F);
+		}
+		return len;
+	}
+
+	/** Parses a number and returns it the way it has been written.
+	 * A leading dot gets prefixed by a zero
+	 * @return Number as text
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	String readNumber() throws JsonParseException, IOException {
+		return scanNumber(null);
+	}
+
+	/** Parses a number directly into the given {@link JsonNumber}.
+	 * Integers that are written in their shortest form are stored without creating a text,
+	 * numbers with fraction or exponent are converted from the digits collected while scanning
+	 * @param number Number the parsed value should be stored in
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	void readNumber(JsonNumber number) throws JsonParseException, IOException {
+		String lexeme = scanNumber(number);
+		if(lexeme!=null) number.setLexeme(lexeme);
+	}
+
+	/** Parses a number and accumulates its digits and exponent while scanning
+	 * @param number If not null numbers with fraction or exponent get converted and stored in it directly,
+	 * same as integers in their shortest form that fit into a long which are stored without creating a text
+	 * @return Number as text or null if the value has been stored in the given number
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private String scanNumber(JsonNumber number) throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(NUMBER_CHARS, position(pos)); }
+		int s = pos, len = 0;
+		boolean copied = false;
+		switch (scanner.start(b)) {
+			case JsonNumberScanner.INVALID: throw new JsonParseException(NUMBER_CHARS, actualChar(pos), position(pos));
+			case JsonNumberScanner.ZERO: scratch(16)[len++] = '0'; copied = true; break;
+		}
+		pos++;
+
+		for(;;){
+			if(pos>=end){
+				if(input==null) break;
+				len = append(s, end, len); copied = true;
+				boolean more = loadMore();
+				s = pos;
+				if(!more) break;
+			}
+			final int result = scanner.next(buf[pos]);
+			if(result==JsonNumberScanner.END) break;
+			if(result==JsonNumberScanner.INVALID){ throw new JsonParseException(DIGIT_CHARS, actualChar(pos), position(pos)); }
+			if(result==JsonNumberScanner.ZERO){
+				len = append(s, pos, len);
+				scratch(len+1)[len++] = '0';
+				s = pos; copied = true;
+			}
+			pos++;
+		}
+		if(scanner.isUnfinished()){ throw new JsonParseUnfinishedException(DIGIT_CHARS, position(pos)); }
+		if(number!=null && (scanner.storeValue(number) || (!copied && scanner.storeShortest(number, buf, s, pos)))) return null;
+
+		String text;
+		if(!copied){
+			text = new String(buf, s, pos-s, StandardCharsets.ISO_8859_1);
+		} else {
+			len = append(s, pos, len);
+			text = new String(scratch, 0, len, StandardCharsets.ISO_8859_1);
+		}
+		if(number!=null && scanner.storeDecimal(number, text)) return null;
+		return text;
+	}
+
+	/** Parses the case insensitive words 'true' or 'false'
+	 * @return Parsed boolean
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	boolean readBoolean() throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(new char[]{'t','f'}, position(pos)); }
+		if((b|0x20)=='t'){
+			pos++; expectLetter('r'); expectLetter('u'); expectLetter('e');
+			return true;
+		}
+		if((b|0x20)=='f'){
+			pos++; expectLetter('a'); expectLetter('l'); expectLetter('s'); expectLetter('e');
+			return false;
+		}
+		throw new JsonParseException(new char[]{'t','f'}, actualChar(pos), position(pos));
+	}
+
+	/** Parses the case insensitive words 'null' or 'nil'
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	void readNull() throws JsonParseException, IOException {
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException('n', position(pos)); }
+		if((b|0x20)!='n'){ throw new JsonParseException('n', actualChar(pos), position(pos)); }
+		pos++;
+		if(pos>=end && !loadMore()){ throw new JsonParseUnfinishedException(new char[]{'u','i'}, position(pos)); }
+		b = buf[pos];
+		if((b|0x20)=='u'){
+			pos++; expectLetter('l'); expectLetter('l');
+		} else if((b|0x20)=='i'){
+			pos++; expectLetter('l');
+		} else {
+			throw new JsonParseException(new char[]{'u','i'}, actualChar(pos), position(pos));
+		}
+	}
+
+	/** Consumes the given lower case letter ignoring its case
+	 * @param letter Expected lower case letter
+	 * @throws JsonParseException if another character is read
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private void expectLetter(char letter) throws JsonParseException, IOException {
+		if(pos>=end && !loadMore()){ throw new JsonParseUnfinishedException(letter, position(pos)); }
+		if((buf[pos]|0x20)!=letter){ throw new JsonParseException(letter, actualChar(pos), position(pos)); }
+		pos++;
+	}
+
+	/** Moves into the given part of the projection for the value at the current position
+	 * @param child Projection of the value or null if it is not selected
+	 * @return False if the value has to be skipped because it is not selected or because it is
+	 * neither an object nor an array but only parts of it are selected
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean enter(JsonProjection child) throws IOException {
+		if(child==null) return false;
+		if(child.isAll()){ projection = null; return true; }
+		final int b = skipWhitespace();
+		projection = child;
+		return b=='{' || b=='[';
+	}
+
+	/** Skips the value at the current position without creating any nodes or strings
+	 * @param validate If true the syntax of objects and arrays gets checked the same way as by
+	 * {@link #readValue()}, otherwise they are skipped by only counting brackets outside of strings
+	 * and syntax errors inside of them are not detected
+	 * @throws JsonParseException if the value could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	void skipValue(boolean validate) throws JsonParseException, IOException {
+		final int b = skipWhitespace();
+		switch (b) {
+			case '{':
+			case '[':
+				if(!validate){ skipContainer(0); return; }
+				pos++;
+				skipEntries(b=='{');
+				return;
+			case '\'':
+			case '"': pos++; skipString((byte)b); return;
+			case 't':
+			case 'T':
+			case 'f':
+			case 'F': readBoolean(); return;
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+			case '.': skipNumber(); return;
+			case 'n':
+			case 'N': readNull(); return;
+			case -1: throw new JsonParseUnfinishedException(position(pos));
+			default: throw new JsonParseException("Could not detect json data type at "+position(pos).toString());
+		}
+	}
+
+	/** Skips the remaining entries and the closing bracket of the object or array
+	 * whose opening bracket has already been consumed
+	 * @param object True for an object, false for an array
+	 * @param validate If true the syntax gets checked completely, otherwise only brackets outside of strings are counted
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	void skipRest(boolean object, boolean validate) throws JsonParseException, IOException {
+		if(validate) skipEntries(object); else skipContainer(1);
+	}
+
+	/** Skips and validates the entries and the closing bracket of an object or array
+	 * whose opening bracket has already been consumed
+	 * @param object True for an object, false for an array
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private void skipEntries(boolean object) throws JsonParseException, IOException {
+		final char close = object ? '}' : ']';
+		int b = skipWhitespace();
+		if(b<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		while(b!=close){
+			if(object){
+				if(b<0){ throw new JsonParseUnfinishedException(QUOTE_CHARS, position(pos)); }
+				if(b!='"' && b!='\''){ throw new JsonParseException(QUOTE_CHARS, actualChar(pos), position(pos)); }
+				pos++;
+				skipString((byte)b);
+				b = skipWhitespace();
+				if(b<0){ throw new JsonParseUnfinishedException(':', position(pos)); }
+				if(b!=':'){ throw new JsonParseException(':', actualChar(pos), position(pos)); }
+				pos++;
+			}
+			skipValue(true);
+			b = skipWhitespace();
+			if(b!=','){ break; }
+			pos++;
+			b = skipWhitespace(); // check if empty ','
+		}
+		if(b<0){ throw object ? new JsonParseUnfinishedException(close, position(pos)) : new JsonParseUnfinishedException(position(pos)); }
+		if(b!=close){ throw new JsonParseException(close, actualChar(pos), position(pos)); }
+		pos++;
+	}
+
+	/** Skips a number and checks it the same way as {@link #readNumber()} without creating its text
+	 * @throws JsonParseException if the number could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private void skipNumber() throws JsonParseException, IOException {
+		final int b = skipWhitespace();
+		boolean needNumber = b=='+' || b=='-' || b=='.', hasComma = b=='.', hasExponent = false, exponentStart = false;
+		pos++;
+		for(;;){
+			if(pos>=end && !loadMore()) break;
+			final byte c = buf[pos];
+			if(c>='0' && c<='9'){
+				needNumber = false; exponentStart = false;
+			} else if(c=='.'){
+				if(hasComma || hasExponent){ throw new JsonParseException(DIGIT_CHARS, actualChar(pos), position(pos)); }
+				hasComma = true; needNumber = true;
+			} else if((c=='e' || c=='E') && !hasExponent && !needNumber){
+				hasExponent = true; needNumber = true; exponentStart = true;
+			} else if(c=='+' || c=='-'){
+				if(!exponentStart){ throw new JsonParseException(DIGIT_CHARS, actualChar(pos), position(pos)); }
+				exponentStart = false;
+			} else break;
+			pos++;
+		}
+		if(needNumber){ throw new JsonParseUnfinishedException(DIGIT_CHARS, position(pos)); }
+	}
+
+	/** Skips objects and arrays by only counting brackets outside of strings until the
+	 * given amount of opened brackets has been closed.
+	 * Syntax errors inside of the skipped range are only detected once the range gets parsed.
+	 * This loop is faster than classifying 64 bytes at once with SWAR bit tricks on longs
+	 * (about 1 GB/s compared to 0.7 GB/s), because the JIT compiles it to a tight loop
+	 * over the bytes of strings
+	 * @param depth Amount of brackets that have already been opened, 0 if the position is at an opening bracket
+	 * @throws JsonParseUnfinishedException if the closing bracket is missing
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private void skipContainer(int depth) throws JsonParseUnfinishedException, IOException {
+		for(int i=pos; ; i++){
+			if(i>=end){
+				pos = end;
+				if(!loadMore()) throw new JsonParseUnfinishedException(position(pos));
+				i = pos;
+			}
+			switch (buf[i]) {
+				case '{':
+				case '[': depth++; break;
+				case '}':
+				case ']':
+					if(--depth==0){ pos = i+1; return; }
+					break;
+				case '"':
+				case '\'':
+					pos = i+1;
+					skipString(buf[i]);
+					i = pos-1;
+					break;
+			}
+		}
+	}
+
+	/** Skips an object or array like {@link #skipContainer(int)} and checks on the way if its
+	 * bytes are exactly what writing the parsed value without pretty printing produces.
+	 * This is the case for strict JSON without any whitespace except a single space behind colons,
+	 * strings in double quotes without backslashes, control characters or invalid UTF-8,
+	 * numbers in strict notation, lower case literals and objects without duplicate keys.
+	 * After the first violation the rest of the range only gets skipped
+	 * @return True if the original bytes can be written instead of the parsed value
+	 * @throws JsonParseUnfinishedException if the closing bracket is missing
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean skipCanonical() throws JsonParseUnfinishedException, IOException {
+		if(canonicalStack==null){ canonicalStack = new int[16]; canonicalKeys = new int[48]; }
+		int depth = 0, keyCount = 0, i = pos;
+		boolean key = false; // if a key is expected instead of a value
+		while(i<end){
+			if(key){
+				if(buf[i]!='"') break; // single quotes, trailing commas or whitespace
+				final int to = canonicalString(i);
+				if(to<0){ pos = -to; skipString((byte)'"'); return skipFallback(depth); }
+				if(!uniqueKey(i, to, canonicalStack[depth-1], keyCount)){ i = to; break; }
+				keyCount++;
+				i = to;
+				if(i+1>=end || buf[i]!=':' || buf[i+1]!=' ') break;
+				i += 2;
+				key = false;
+				continue;
+			}
+			final int at = i;
+			switch (buf[i]) {
+				case '{':
+				case '[':
+					if(depth==canonicalStack.length) canonicalStack = Arrays.copyOf(canonicalStack, depth*2);
+					canonicalStack[depth++] = buf[i]=='{' ? keyCount : -1; // objects remember where their keys start
+					i++;
+					if(i<end && buf[i]==(buf[at]=='{' ? '}' : ']')){
+						i++; depth--;
+						break;
+					}
+					key = buf[at]=='{';
+					continue;
+				case '"':
+					final int to = canonicalString(i);
+					if(to<0){ pos = -to; skipString((byte)'"'); return skipFallback(depth); }
+					i = to;
+					break;
+				case 't': i = canonicalLiteral(i, JsonWriter.TRUE); break;
+				case 'f': i = canonicalLiteral(i, JsonWriter.FALSE); break;
+				case 'n': i = canonicalLiteral(i, JsonWriter.NULL); break;
+				default: i = canonicalNumber(i); break;
+			}
+			if(i<0){ i = at; break; }
+			while(depth>0 && i<end && buf[i]==(canonicalStack[depth-1]>=0 ? '}' : ']')){
+				i++;
+				if(canonicalStack[--depth]>=0) keyCount = canonicalStack[depth];
+			}
+			if(depth==0){ pos = i; return true; }
+			if(i>=end || buf[i]!=',') break;
+			i++;
+			key = canonicalStack[depth-1]>=0;
+		}
+		pos = i;
+		return skipFallback(depth);
+	}
+
+	/** Skips the rest of an object or array after {@link #skipCanonical()} has found a violation
+	 * @param depth Amount of brackets that are still open
+	 * @return Always false
+	 * @throws JsonParseUnfinishedException if the closing bracket is missing
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean skipFallback(int depth) throws JsonParseUnfinishedException, IOException {
+		if(depth>0) skipContainer(depth);
+		return false;
+	}
+
+	/** Checks a string for {@link #skipCanonical()}
+	 * @param i Position of the opening double quote
+	 * @return Position behind the closing quote or, if the string is not canonical,
+	 * the negated position from where the rest of the string has to be skipped
+	 */
+	private int canonicalString(int i){
+		for(i++; i<end; i++){
+			final int c = buf[i];
+			if(c=='"') return i+1;
+			if(c>=0){
+				if(c<0x20 || c=='\\') return -i;
+				continue;
+			}
+			final int n = utf8Length(i);
+			if(n<0) return -i;
+			i += n-1;
+		}
+		return -end;
+	}
+
+	/** Returns the length of a multi byte UTF-8 sequence if it is well-formed,
+	 * because malformed sequences get replaced when decoding
+	 * @param i Position of the first byte of the sequence
+	 * @return Amount of bytes or -1 if the sequence is malformed
+	 */
+	private int utf8Length(int i){
+		final int c = buf[i] & 0xFF;
+		final int n, min, max; // range of the second byte
+		if(c>=0xC2 && c<=0xDF){ n = 2; min = 0x80; max = 0xBF; }
+		else if(c>=0xE0 && c<=0xEF){ n = 3; min = c==0xE0 ? 0xA0 : 0x80; max = c==0xED ? 0x9F : 0xBF; }
+		else if(c>=0xF0 && c<=0xF4){ n = 4; min = c==0xF0 ? 0x90 : 0x80; max = c==0xF4 ? 0x8F : 0xBF; }
+		else return -1;
+		if(i+n>end) return -1;
+		final int second = buf[i+1] & 0xFF;
+		if(second<min || second>max) return -1;
+		for(int k=2; k<n; k++)
+			if((buf[i+k] & 0xC0)!=0x80) return -1;
+		return n;
+	}
+
+	/** Checks a literal for {@link #skipCanonical()}
+	 * @param i Position of the first byte
+	 * @param literal Lower case literal
+	 * @return Position behind the literal or -1 if it does not match
+	 */
+	private int canonicalLiteral(int i, byte[] literal){
+		if(i+literal.length>end) return -1;
+		for(int k=0; k<literal.length; k++)
+			if(buf[i+k]!=literal[k]) return -1;
+		return i+literal.length;
+	}
+
+	/** Checks for {@link #skipCanonical()} if a number is in strict notation, which the parser keeps
+	 * as it is or stores as a value that gets written exactly like it
+	 * @param i Position of the first byte
+	 * @return Position behind the number or -1 if it is not in strict notation
+	 */
+	private int canonicalNumber(int i){
+		if(i<end && buf[i]=='-') i++;
+		if(i>=end || buf[i]<'0' || buf[i]>'9') return -1;
+		if(buf[i++]!='0')
+			while(i<end && buf[i]>='0' && buf[i]<='9') i++;
+		if(i<end && buf[i]=='.'){
+			if(++i>=end || buf[i]<'0' || buf[i]>'9') return -1;
+			while(i<end && buf[i]>='0' && buf[i]<='9') i++;
+		}
+		if(i<end && (buf[i]|0x20)=='e'){
+			if(++i<end && (buf[i]=='+' || buf[i]=='-')) i++;
+			if(i>=end || buf[i]<'0' || buf[i]>'9') return -1;
+			while(i<end && buf[i]>='0' && buf[i]<='9') i++;
+		}
+		return i;
+	}
+
+	/** Checks for {@link #skipCanonical()} if an object does not contain a key yet,
+	 * because duplicate keys are only written once. Very large objects count as not canonical
+	 * @param from Position of the opening quote
+	 * @param to Position behind the closing quote
+	 * @param base Index of the first key of the object
+	 * @param count Amount of keys of all objects that are currently open
+	 * @return True if the key is unique and has been recorded
+	 */
+	private boolean uniqueKey(int from, int to, int base, int count){
+		if(count-base>=MAX_CANONICAL_KEYS) return false;
+		int hash = 0;
+		for(int k=from+1; k<to-1; k++) hash = 31*hash + buf[k];
+		for(int k=base*3; k<count*3; k+=3){
+			if(canonicalKeys[k]!=hash || canonicalKeys[k+2]-canonicalKeys[k+1]!=to-from) continue;
+			int a = canonicalKeys[k+1], b = from;
+			while(b<to && buf[a]==buf[b]){ a++; b++; }
+			if(b==to) return false;
+		}
+		if(count*3+3>canonicalKeys.length) canonicalKeys = Arrays.copyOf(canonicalKeys, canonicalKeys.length*2);
+		canonicalKeys[count*3] = hash;
+		canonicalKeys[count*3+1] = from;
+		canonicalKeys[count*3+2] = to;
+		return true;
+	}
+
+	/** Skips the rest of a string whose opening quote has already been consumed
+	 * @param quote Quote the string has been opened with
+	 * @throws JsonParseUnfinishedException if the string is not terminated
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private void skipString(byte quote) throws JsonParseUnfinishedException, IOException {
+		int i = pos;
+		boolean escaped = false;
+		for(;;){
+			if(escaped && i<end){ i++; escaped = false; }
+			while(i<end && buf[i]!=quote && buf[i]!='\\') i++;
+			if(i<end){
+				if(buf[i]==quote){ pos = i+1; return; }
+				i++; escaped = true;
+				continue;
+			}
+			pos = end;
+			if(!loadMore()) throw new JsonParseUnfinishedException((char)quote, position(pos));
+			i = pos;
+		}
+	}
+
+	/** Consumes the byte that has been returned by {@link #skipWhitespace()} */
+	void consume(){
+		pos++;
+	}
+
+	/** Returns the character at the current position for error messages
+	 * @return Character as string or null if end has been reached
+	 */
+	String actualChar(){
+		return actualChar(pos);
+	}
+
+	/** Computes line and column of the current position
+	 * @return Line, column and character offset of the next byte
+	 */
+	LineColumnTracker position(){
+		return position(pos);
+	}
+
+	/** Skips whitespace and returns the next byte without consuming it
+	 * @return Next byte (0-255) or -1 if end has been reached
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	int skipWhitespace() throws IOException {
+		for(;;){
+			while(pos<end){
+				int c = buf[pos] & 0xFF;
+				if(JSON.CHAR_CLASSES[c]==JSON.CLASS_OTHER) return c;
+				pos++;
+			}
+			if(!loadMore()) return -1;
+		}
+	}
+
+	/** Reads the next block from the {@link InputStream} into the buffer.
+	 * May only be called once all bytes of the buffer have been consumed
+	 * @return False if no more bytes are available
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean loadMore() throws IOException {
+		if(input==null) return false;
+		track(origin, start, end);
+		start = pos = end = 0;
+		int n;
+		while((n = input.read(buf, 0, buf.length))==0);
+		if(n<0) return false;
+		end = n;
+		return true;
+	}
+
+	/** Appends the remaining bytes of the given buffer behind the data of a parser that
+	 * has been created with {@link #JsonByteParser(JsonParseOptions)}.
+	 * Bytes before the current position are dropped if the array has to make room
+	 * @param data Bytes in UTF-8 that should be appended, gets read completely
+	 */
+	void append(ByteBuffer data){
+		final int length = data.remaining();
+		if(end+length>buf.length){
+			track(origin, start, pos);
+			final int rest = end-pos;
+			byte[] arr = rest+length>buf.length ? new byte[Math.max(rest+length, buf.length<<1)] : buf;
+			System.arraycopy(buf, pos, arr, 0, rest);
+			buf = arr;
+			start = pos = 0;
+			end = rest;
+		}
+		data.get(buf, end, length);
+		end += length;
+	}
+
+	/** Copies a range of the buffer to the end of the scratch buffer
+	 * @param from First index of the range
+	 * @param to Index after the range
+	 * @param len Amount of bytes already in the scratch buffer
+	 * @return New amount of bytes in the scratch buffer
+	 */
+	private int append(int from, int to, int len){
+		int n = to-from;
+		System.arraycopy(buf, from, scratch(len+n), len, n);
+		return len+n;
+	}
+
+	/** Returns a buffer for temporary data with at least the given size
+	 * @param size Minimum size of the buffer
+	 * @return Buffer that keeps its previous content
+	 */
+	private byte[] scratch(int size){
+		if(scratch==null){
+			scratch = new byte[Math.max(size, 64)];
+		} else if(scratch.length < size){
+			byte[] arr = new byte[Math.max(size, scratch.length<<1)];
+			System.arraycopy(scratch, 0, arr, 0, scratch.length);
+			scratch = arr;
+		}
+		return scratch;
+	}
+
+	/** Decodes the character at the given index for error messages
+	 * @param at Index of the first byte of the character
+	 * @return Character as string
+	 */
+	protected String actualChar(int at){
+		if(at>=end) return null;
+		int b = buf[at] & 0xFF;
+		int len = b<0xC0 ? 1 : (b<0xE0 ? 2 : (b<0xF0 ? 3 : 4));
+		return new String(buf, at, Math.min(len, end-at), StandardCharsets.UTF_8);
+	}
+
+	/** Computes the line and column of a given index.
+	 * Only used for error feedback so the bookkeeping does not slow down parsing
+	 * @param at Index the position should be computed for
+	 * @return Line, column and character offset of the given index
+	 */
+	protected LineColumnTracker position(int at){
+		LineColumnTracker lct = origin.clone();
+		track(lct, start, at);
+		return lct;
+	}
+
+	/** Moves a tracker over a range of the current bytes
+	 * @param lct Tracker that should be moved
+	 * @param from First index of the range
+	 * @param to Index after the range
+	 */
+	private void track(LineColumnTracker lct, int from, int to){
+		int column = 0;
+		for(int i=from; i<to; i++){
+			byte c = buf[i];
+			if((c & 0xC0)==0x80) continue; // UTF-8 continuation byte
+			if(c=='\n'){
+				if(column>0){ lct.increaseColumn(column); column = 0; }
+				lct.increaseLine();
+			} else column++;
+		}
+		if(column>0) lct.increaseColumn(column);
+	}
+
+
+	/** Task that parses a range of slices of array entries, splitting itself until a single slice is left.
+	 * Every slice gets its own parser and caches because parsers are not thread safe
+	 */
+	private static final class Slices extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final JsonByteParser parent;
+		private final int[] bounds, slices;
+		private final JSON<?>[] entries;
+		private final int from, to;
+		volatile boolean failed = false;
+
+		/**
+		 * Creates a task for the given slices
+		 * @param parent Parser of the whole array
+		 * @param bounds Indices of the brackets and separators of the array
+		 * @param entries Array the parsed entries get stored in
+		 * @param slices Index of the first entry of every slice followed by the amount of entries
+		 * @param from First slice of this task
+		 * @param to Slice after the last slice of this task
+		 */
+		Slices(JsonByteParser parent, int[] bounds, JSON<?>[] entries, int[] slices, int from, int to){
+			this.parent = parent;
+			this.bounds = bounds;
+			this.entries = entries;
+			this.slices = slices;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute(){
+			if(to-from>1){
+				final int mid = (from+to)>>>1;
+				Slices left = new Slices(parent, bounds, entries, slices, from, mid);
+				Slices right = new Slices(parent, bounds, entries, slices, mid, to);
+				invokeAll(left, right);
+				failed = left.failed || right.failed;
+				return;
+			}
+			JsonByteParser parser = new JsonByteParser(parent.buf, parent.start, parent.end-parent.start, parent.origin,
+					parent.options, JsonParseOptions.concurrentKeyCache(parent.options), new JsonShape.Cache());
+			parser.parallel = false;
+			parser.escapes = parent.escapes;
+			final int last = bounds.length-2;
+			try {
+				for(int i=slices[from]; i<slices[to]; i++){
+					parser.pos = bounds[i]+1;
+					parser.end = bounds[i+1];
+					if(parser.skipWhitespace()<0){
+						if(i==last) continue; // nothing after the last ',' or empty array
+						failed = true; return;
+					}
+					entries[i] = parser.readMember();
+					if(parser.skipWhitespace()>=0){ failed = true; return; }
+				}
+			} catch (IOException | RuntimeException ex){
+				failed = true; // parsed again sequentially to report the error
+			}
+		}
+	}
+
+
+	/** Byte range of an object or array that gets parsed on first access.
+	 * Keeps a reference to the whole data so error positions stay correct
+	 */
+	static final class Span {
+
+		private final byte[] buf;
+		private final int start, from, to;
+		private final boolean canonical, escapes;
+		private final LineColumnTracker origin;
+		private final JsonParseOptions options;
+
+		private Span(JsonByteParser parser, int from, int to, boolean canonical){
+			this.buf = parser.buf;
+			this.start = parser.start;
+			this.origin = parser.origin;
+			this.options = parser.options;
+			this.from = from;
+			this.to = to;
+			this.canonical = canonical;
+			this.escapes = parser.escapes;
+		}
+
+		/** Parses the range as object
+		 * @return Members of the object
+		 * @throws JsonParseException if data could not be parsed correctly
+		 */
+		JsonMap readObject() throws JsonParseException {
+			try {
+				return parser().readObject();
+			} catch (IOException ex) {
+				throw new JsonParseException(ex);
+			}
+		}
+
+		/** Parses the range as array
+		 * @return Entries of the array
+		 * @throws JsonParseException if data could not be parsed correctly
+		 */
+		List<JSON<?>> readArray() throws JsonParseException {
+			try {
+				return parser().readArray();
+			} catch (IOException ex) {
+				throw new JsonParseException(ex);
+			}
+		}
+
+		/** Returns if the original bytes are exactly what writing the parsed value produces
+		 * @return True if {@link #writeTo(JsonWriter)} can be used
+		 */
+		boolean isCanonical(){
+			return canonical;
+		}
+
+		/** Copies the original bytes of the range, only allowed if the range is canonical
+		 * @param writer Writer the bytes should be written to
+		 * @throws IOException if writing to the underlying {@link java.io.OutputStream} fails
+		 */
+		void writeTo(JsonWriter writer) throws IOException {
+			writer.write(buf, from, to-from);
+		}
+
+		/** Creates a parser for the range with its own caches, because the first access
+		 * that parses the range may happen on another thread than the one that has created it
+		 * @return Parser positioned at the beginning of the range
+		 */
+		private JsonByteParser parser(){
+			JsonByteParser parser = new JsonByteParser(buf, start, to-start, origin, options,
+					JsonParseOptions.concurrentKeyCache(options), new JsonShape.Cache());
+			parser.pos = from;
+			parser.parallel = false;
+			parser.escapes = escapes;
+			parser.projection = null; // only values that are selected as a whole are parsed lazily
+			return parser;
+		}
+	}
+}
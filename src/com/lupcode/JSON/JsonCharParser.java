@@ -0,0 +1,441 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.lupcode.JSON.exceptions.JsonParseException;
+import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Parser that reads JSON data from a {@link CharSequence} in place
+ * or from a {@link Reader} through a reusable window of characters.
+ * Accepts the same lenient syntax as the other parsers.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+class JsonCharParser {
+
+	private static final int WINDOW_SIZE = 8192;
+	private static final char[] NUMBER_CHARS = new char[]{'0','1','2','3','4','5','6','7','8','9','-','+','.'};
+	private static final char[] DIGIT_CHARS = new char[]{'0','1','2','3','4','5','6','7','8','9'};
+	private static final char[] QUOTE_CHARS = new char[]{'"', '\''};
+
+	private CharSequence seq;
+	private int pos, end, start;
+	private final LineColumnTracker origin;
+	private final Reader reader;
+	private final char[] window;
+	private StringBuilder builder = null;
+	private String[] memberKeys = new String[16]; // members of all objects that are currently being parsed
+	private JSON<?>[] memberValues = new JSON<?>[16];
+	private int members = 0;
+	private final JsonNumberScanner scanner = new JsonNumberScanner();
+	private final JsonNumberList.Builder numbers = new JsonNumberList.Builder(); // numbers of the array that is currently being parsed
+	private final JsonShape.Cache shapes = new JsonShape.Cache();
+
+	/**
+	 * Creates a parser that reads the given characters without copying them
+	 * @param seq Characters that should be parsed
+	 * @param offset Index of the first character that should be parsed
+	 * @param end Index after the last character that should be parsed
+	 * @param lct Line and column where the given offset is located
+	 */
+	JsonCharParser(CharSequence seq, int offset, int end, LineColumnTracker lct){
+		if(seq==null){ throw new NullPointerException("Json string cannot be null"); }
+		if(offset<0 || offset>end || end>seq.length())
+			throw new IndexOutOfBoundsException("offset="+offset+", end="+end+", length="+seq.length());
+		this.seq = seq;
+		this.pos = offset;
+		this.start = offset;
+		this.end = end;
+		this.origin = lct!=null ? lct.clone() : new LineColumnTracker();
+		this.reader = null;
+		this.window = null;
+	}
+
+	/**
+	 * Creates a parser that reads characters block wise from the given {@link Reader}
+	 * @param reader Reader that should be parsed
+	 * @param lct Line and column where the reader starts
+	 */
+	JsonCharParser(Reader reader, LineColumnTracker lct){
+		if(reader==null){ throw new NullPointerException("Reader cannot be null"); }
+		this.reader = reader;
+		this.window = new char[WINDOW_SIZE];
+		this.seq = CharBuffer.wrap(window);
+		this.origin = lct!=null ? lct.clone() : new LineColumnTracker();
+	}
+
+	/** Parses the next value and automatically detects its JSON data type
+	 * @return Parsed JSON data
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	JSON<?> readValue() throws JsonParseException, IOException {
+		switch (skipWhitespace()) {
+			case '{': return new JsonObject().parseJSON(this);
+			case '[': return new JsonArray().parseJSON(this);
+			case '\'':
+			case '"': return new JsonString().parseJSON(this);
+			case 't':
+			case 'T':
+			case 'f':
+			case 'F': return new JsonBoolean().parseJSON(this);
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+			case '.': return new JsonNumber().parseJSON(this);
+			case 'n':
+			case 'N': return new JsonNull().parseJSON(this);
+			case -1: throw new JsonParseUnfinishedException(position(pos));
+			default: throw new JsonParseException("Could not detect json data type at "+position(pos).toString());
+		}
+	}
+
+	/** Parses the members of a JSON object including its braces
+	 * @return Members in the order they have been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	JsonMap readObject() throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException('{', position(pos)); }
+		if(c!='{'){ throw new JsonParseException('{', actualChar(pos), position(pos)); }
+		pos++;
+
+		final int base = members;
+		c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		while(c!='}'){
+			String key = readString();
+			c = skipWhitespace();
+			if(c<0){ throw new JsonParseUnfinishedException(':', position(pos)); }
+			if(c!=':'){ throw new JsonParseException(':', actualChar(pos), position(pos)); }
+			pos++;
+
+			pushMember(key, readValue());
+
+			c = skipWhitespace();
+			if(c!=','){ break; }
+			pos++;
+			c = skipWhitespace(); // check if empty ','
+		}
+		if(c<0){ throw new JsonParseUnfinishedException('}', position(pos)); }
+		if(c!='}'){ throw new JsonParseException('}', actualChar(pos), position(pos)); }
+		pos++;
+		JsonMap map = shapes.map(memberKeys, memberValues, base, members);
+		Arrays.fill(memberValues, base, members, null);
+		members = base;
+		return map;
+	}
+
+	/** Adds a member to the stack of members whose objects are not finished yet
+	 * @param key Key of the member
+	 * @param value Value of the member
+	 */
+	private void pushMember(String key, JSON<?> value){
+		if(members==memberKeys.length){
+			memberKeys = Arrays.copyOf(memberKeys, members<<1);
+			memberValues = Arrays.copyOf(memberValues, members<<1);
+		}
+		memberKeys[members] = key;
+		memberValues[members++] = value;
+	}
+
+	/** Parses the entries of a JSON array including its brackets.
+	 * Arrays that only contain integers or only contain floating point numbers
+	 * in their shortest form are stored in a {@link JsonNumberList}
+	 * @return Entries in the order they have been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	List<JSON<?>> readArray() throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException('[', position(pos)); }
+		if(c!='['){ throw new JsonParseException('[', actualChar(pos), position(pos)); }
+		pos++;
+
+		ArrayList<JSON<?>> list = null; // only created once the entries are not all numbers of one kind
+		JsonNumber number = null;
+		numbers.reset();
+		c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		while(c!=']'){
+			if(list==null && ((c>='0' && c<='9') || c=='-' || c=='+' || c=='.')){
+				if(number==null) number = new JsonNumber();
+				readNumber(number);
+				if(!numbers.add(number)){
+					list = numbers.toList();
+					list.add(number);
+				}
+			} else {
+				if(list==null) list = numbers.toList();
+				list.add(readValue());
+			}
+
+			c = skipWhitespace();
+			if(c!=','){ break; }
+			pos++;
+			c = skipWhitespace(); // check if empty ','
+		}
+		if(c<0){ throw new JsonParseUnfinishedException(position(pos)); }
+		if(c!=']'){ throw new JsonParseException(']', actualChar(pos), position(pos)); }
+		pos++;
+		return list!=null ? list : numbers.build();
+	}
+
+	/** Parses a string that is enclosed by single or double quotes.
+	 * A backslash causes the following character to be taken as it is
+	 * @return Value of the string
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	String readString() throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException(QUOTE_CHARS, position(pos)); }
+		if(c!='"' && c!='\''){ throw new JsonParseException(QUOTE_CHARS, actualChar(pos), position(pos)); }
+		final char quote = (char)c;
+		int s = ++pos;
+		StringBuilder sb = null;
+		for(;;){
+			int i = pos;
+			while(i<end){
+				char ch = seq.charAt(i);
+				if(ch==quote){
+					pos = i+1;
+					if(sb==null) return seq.subSequence(s, i).toString();
+					return sb.append(seq, s, i).toString();
+				}
+				if(ch=='\\'){
+					if(sb==null) sb = builder();
+					sb.append(seq, s, i);
+					if(++i>=end){
+						pos = end;
+						if(!loadMore()) throw new JsonParseUnfinishedException(quote, position(pos));
+						i = pos;
+					}
+					sb.append(seq.charAt(i));
+					s = ++i;
+					continue;
+				}
+				i++;
+			}
+			if(reader==null){ pos = end; break; }
+			if(sb==null) sb = builder();
+			sb.append(seq, s, end);
+			pos = end;
+			if(!loadMore()) break;
+			s = pos;
+		}
+		throw new JsonParseUnfinishedException(quote, position(pos));
+	}
+
+	/** Parses a number and returns it the way it has been written.
+	 * A leading dot gets prefixed by a zero
+	 * @return Number as text
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	String readNumber() throws JsonParseException, IOException {
+		return scanNumber(null);
+	}
+
+	/** Parses a number directly into the given {@link JsonNumber}.
+	 * Integers that are written in their shortest form are stored without creating a text,
+	 * numbers with fraction or exponent are converted from the digits collected while scanning
+	 * @param number Number the parsed value should be stored in
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	void readNumber(JsonNumber number) throws JsonParseException, IOException {
+		String lexeme = scanNumber(number);
+		if(lexeme!=null) number.setLexeme(lexeme);
+	}
+
+	/** Parses a number and accumulates its digits and exponent while scanning
+	 * @param number If not null numbers with fraction or exponent get converted and stored in it directly,
+	 * same as integers in their shortest form that fit into a long which are stored without creating a text
+	 * @return Number as text or null if the value has been stored in the given number
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	private String scanNumber(JsonNumber number) throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException(NUMBER_CHARS, position(pos)); }
+		int s = pos;
+		StringBuilder sb = null;
+		switch (scanner.start(c)) {
+			case JsonNumberScanner.INVALID: throw new JsonParseException(NUMBER_CHARS, actualChar(pos), position(pos));
+			case JsonNumberScanner.ZERO: sb = builder().append('0'); break;
+		}
+		pos++;
+
+		for(;;){
+			if(pos>=end){
+				if(reader==null) break;
+				if(sb==null) sb = builder();
+				sb.append(seq, s, end);
+				boolean more = loadMore();
+				s = pos;
+				if(!more) break;
+			}
+			final int result = scanner.next(seq.charAt(pos));
+			if(result==JsonNumberScanner.END) break;
+			if(result==JsonNumberScanner.INVALID){ throw new JsonParseException(DIGIT_CHARS, actualChar(pos), position(pos)); }
+			if(result==JsonNumberScanner.ZERO){
+				if(sb==null) sb = builder();
+				sb.append(seq, s, pos).append('0');
+				s = pos;
+			}
+			pos++;
+		}
+		if(scanner.isUnfinished()){ throw new JsonParseUnfinishedException(DIGIT_CHARS, position(pos)); }
+		if(number!=null && (scanner.storeValue(number) || (sb==null && scanner.storeShortest(number, seq, s, pos)))) return null;
+
+		String text = sb==null ? seq.subSequence(s, pos).toString() : sb.append(seq, s, pos).toString();
+		if(number!=null && scanner.storeDecimal(number, text)) return null;
+		return text;
+	}
+
+	/** Parses the case insensitive words 'true' or 'false'
+	 * @return Parsed boolean
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	boolean readBoolean() throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException(new char[]{'t','f'}, position(pos)); }
+		if((c|0x20)=='t'){
+			pos++; expectLetter('r'); expectLetter('u'); expectLetter('e');
+			return true;
+		}
+		if((c|0x20)=='f'){
+			pos++; expectLetter('a'); expectLetter('l'); expectLetter('s'); expectLetter('e');
+			return false;
+		}
+		throw new JsonParseException(new char[]{'t','f'}, actualChar(pos), position(pos));
+	}
+
+	/** Parses the case insensitive words 'null' or 'nil'
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	void readNull() throws JsonParseException, IOException {
+		int c = skipWhitespace();
+		if(c<0){ throw new JsonParseUnfinishedException('n', position(pos)); }
+		if((c|0x20)!='n'){ throw new JsonParseException('n', actualChar(pos), position(pos)); }
+		pos++;
+		if(pos>=end && !loadMore()){ throw new JsonParseUnfinishedException(new char[]{'u','i'}, position(pos)); }
+		c = seq.charAt(pos);
+		if((c|0x20)=='u'){
+			pos++; expectLetter('l'); expectLetter('l');
+		} else if((c|0x20)=='i'){
+			pos++; expectLetter('l');
+		} else {
+			throw new JsonParseException(new char[]{'u','i'}, actualChar(pos), position(pos));
+		}
+	}
+
+	/** Consumes the given lower case letter ignoring its case
+	 * @param letter Expected lower case letter
+	 * @throws JsonParseException if another character is read
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	private void expectLetter(char letter) throws JsonParseException, IOException {
+		if(pos>=end && !loadMore()){ throw new JsonParseUnfinishedException(letter, position(pos)); }
+		if((seq.charAt(pos)|0x20)!=letter){ throw new JsonParseException(letter, actualChar(pos), position(pos)); }
+		pos++;
+	}
+
+	/** Skips whitespace and returns the next character without consuming it
+	 * @return Next character or -1 if end has been reached
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	int skipWhitespace() throws IOException {
+		for(;;){
+			while(pos<end){
+				char c = seq.charAt(pos);
+				if(c>=JSON.CHAR_CLASSES.length || JSON.CHAR_CLASSES[c]==JSON.CLASS_OTHER) return c;
+				pos++;
+			}
+			if(!loadMore()) return -1;
+		}
+	}
+
+	/** Reads the next block from the {@link Reader} into the window.
+	 * May only be called once all characters of the window have been consumed
+	 * @return False if no more characters are available
+	 * @throws IOException if reading from the {@link Reader} fails
+	 */
+	private boolean loadMore() throws IOException {
+		if(reader==null) return false;
+		track(origin, start, end);
+		start = pos = end = 0;
+		int n;
+		while((n = reader.read(window, 0, window.length))==0);
+		if(n<0) return false;
+		end = n;
+		return true;
+	}
+
+	/** Returns the shared builder for temporary text after clearing it
+	 * @return Empty builder
+	 */
+	private StringBuilder builder(){
+		if(builder==null) builder = new StringBuilder(64); else builder.setLength(0);
+		return builder;
+	}
+
+	/** Returns the character at the given index for error messages
+	 * @param at Index of the character
+	 * @return Character as string
+	 */
+	private String actualChar(int at){
+		if(at>=end) return null;
+		char c = seq.charAt(at);
+		if(Character.isHighSurrogate(c) && at+1<end) return seq.subSequence(at, at+2).toString();
+		return String.valueOf(c);
+	}
+
+	/** Computes the line and column of a given index.
+	 * Only used for error feedback so the bookkeeping does not slow down parsing
+	 * @param at Index the position should be computed for
+	 * @return Line, column and character offset of the given index
+	 */
+	private LineColumnTracker position(int at){
+		LineColumnTracker lct = origin.clone();
+		track(lct, start, at);
+		return lct;
+	}
+
+	/** Moves a tracker over a range of the current characters
+	 * @param lct Tracker that should be moved
+	 * @param from First index of the range
+	 * @param to Index after the range
+	 */
+	private void track(LineColumnTracker lct, int from, int to){
+		int column = 0;
+		for(int i=from; i<to; i++){
+			char c = seq.charAt(i);
+			if(Character.isLowSurrogate(c)) continue;
+			if(c=='\n'){
+				if(column>0){ lct.increaseColumn(column); column = 0; }
+				lct.increaseLine();
+			} else column++;
+		}
+		if(column>0) lct.increaseColumn(column);
+	}
+}
@@ -0,0 +1,187 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.lupcode.JSON.exceptions.JsonParseException;
+
+/** Extracts the values at JSON Pointers (RFC 6901) from a {@link JsonReader} in one pass.
+ * Only the selected values get built, everything else gets skipped without creating
+ * any strings, and reading stops as soon as all values have been found.
+ * If an object contains a key more than once, pointers always go through its first occurrence
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonExtractor {
+
+	private final Node root = new Node();
+	private final JSON<?>[] results;
+	private int remaining;
+
+	/**
+	 * Creates an extractor for the given pointers
+	 * @param pointers JSON Pointers like "/meta/version" where "" selects the whole value
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if pointers or one of them is null
+	 */
+	JsonExtractor(String[] pointers) throws IllegalArgumentException, NullPointerException {
+		if(pointers==null){ throw new NullPointerException("Pointers cannot be null"); }
+		this.results = new JSON<?>[pointers.length];
+		this.remaining = pointers.length;
+		for(int i=0; i<pointers.length; i++){
+			if(pointers[i]==null){ throw new NullPointerException("Pointer cannot be null"); }
+			Node node = root;
+			node.pending++;
+			for(String segment : JsonProjection.segments(pointers[i])){
+				node = node.child(segment);
+				node.pending++;
+			}
+			node.target(i);
+		}
+	}
+
+	/**
+	 * Reads the values of all pointers from the reader
+	 * @param reader Reader that is positioned at the beginning of the data
+	 * @return Values in the order of the pointers, null for pointers that do not exist
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link java.io.InputStream} fails
+	 */
+	JSON<?>[] extract(JsonReader reader) throws JsonParseException, IOException {
+		if(remaining>0) walk(reader, root);
+		return results;
+	}
+
+	/**
+	 * Reads the next value of the reader and resolves all pointers below the node.
+	 * Afterwards all of them are settled, so the first occurrence of duplicate keys wins
+	 * @param reader Reader whose next value belongs to the node
+	 * @param node Node of the value
+	 * @return Amount of pointers that have been settled or -1 if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link java.io.InputStream} fails
+	 */
+	private int walk(JsonReader reader, Node node) throws JsonParseException, IOException {
+		if(node.targets!=null){
+			if(build(reader, node)==null) return -1;
+			return settle(node);
+		}
+		final JsonToken token = reader.nextToken();
+		if(token==null || token==JsonToken.END_OBJECT || token==JsonToken.END_ARRAY) return -1;
+		int settled = 0;
+		if(token==JsonToken.START_OBJECT){
+			while(reader.nextToken()==JsonToken.FIELD_NAME){
+				final Node child = node.pending>0 ? node.children.get(reader.getString()) : null;
+				if(child!=null && child.pending>0){
+					final int n = walk(reader, child);
+					node.pending -= n; settled += n;
+					if(remaining==0) return settled;
+				} else reader.skipValue();
+			}
+		} else if(token==JsonToken.START_ARRAY){
+			for(int i=0; ; i++){
+				final Node child = node.pending>0 && node.indices ? node.children.get(Integer.toString(i)) : null;
+				if(child!=null && child.pending>0){
+					final int n = walk(reader, child);
+					if(n<0) break;
+					node.pending -= n; settled += n;
+					if(remaining==0) return settled;
+				} else if(!reader.skipValue()) break;
+			}
+		}
+		return settled + settle(node); // pointers that are still pending do not exist
+	}
+
+	/**
+	 * Marks all pending pointers below the node as settled
+	 * @param node Node whose value has been read completely
+	 * @return Amount of pointers that have been settled
+	 */
+	private int settle(Node node){
+		final int settled = node.pending;
+		node.pending = 0;
+		remaining -= settled;
+		return settled;
+	}
+
+	/**
+	 * Reads the next value completely and stores it and all values below it that pointers point to.
+	 * Objects and arrays that pointers go through get built member by member, so pointers
+	 * use the first occurrence of duplicate keys like {@link #walk(JsonReader, Node)} does
+	 * @param reader Reader whose next value belongs to the node
+	 * @param node Node of the value
+	 * @return Value or null if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link java.io.InputStream} fails
+	 */
+	private JSON<?> build(JsonReader reader, Node node) throws JsonParseException, IOException {
+		final JSON<?> value;
+		if(node.children.isEmpty()){
+			value = reader.nextValue();
+		} else {
+			final JsonToken token = reader.nextOpen();
+			if(token==JsonToken.START_OBJECT){
+				final JsonObject object = new JsonObject();
+				while(reader.nextToken()==JsonToken.FIELD_NAME){
+					final String key = reader.getString();
+					object.put(key, member(reader, node.children.get(key)));
+				}
+				value = object;
+			} else if(token==JsonToken.START_ARRAY){
+				final JsonArray array = new JsonArray();
+				for(int i=0; ; i++){
+					final JSON<?> entry = member(reader, node.indices ? node.children.get(Integer.toString(i)) : null);
+					if(entry==null) break;
+					array.add(entry);
+				}
+				value = array;
+			} else value = token!=null ? reader.getCurrentValue() : null;
+		}
+		if(value!=null && node.targets!=null)
+			for(int target : node.targets) results[target] = value;
+		return value;
+	}
+
+	/**
+	 * Reads a member or entry of a value that gets built by {@link #build(JsonReader, Node)}
+	 * @param reader Reader whose next value is the member or entry
+	 * @param child Node of the member or entry or null if no pointer goes through it
+	 * @return Value or null if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link java.io.InputStream} fails
+	 */
+	private JSON<?> member(JsonReader reader, Node child) throws JsonParseException, IOException {
+		if(child==null || child.pending==0) return reader.nextValue(); // later occurrences only get built
+		final JSON<?> value = build(reader, child);
+		child.pending = 0; // counted when the node that is being built gets settled
+		return value;
+	}
+
+
+	/** Node of the pointer tree, one per distinct path prefix */
+	private static final class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+		private int[] targets = null; // indices of the pointers that end here
+		private int pending = 0; // pointers below this node that have not been settled yet
+		private boolean indices = false; // if a child is an array index
+
+		Node child(String segment){
+			Node child = children.get(segment);
+			if(child==null){
+				children.put(segment, child = new Node());
+				indices |= JsonProjection.isIndex(segment);
+			}
+			return child;
+		}
+
+		void target(int index){
+			if(targets==null){ targets = new int[]{ index }; return; }
+			int[] copy = new int[targets.length+1];
+			System.arraycopy(targets, 0, copy, 0, targets.length);
+			copy[targets.length] = index;
+			targets = copy;
+		}
+	}
+}
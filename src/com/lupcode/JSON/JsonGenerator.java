@@ -0,0 +1,334 @@
+package com.lupcode.JSON;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import com.lupcode.JSON.exceptions.JsonException;
+
+/** Streaming writer that writes JSON data directly into an {@link OutputStream} or
+ * {@link ByteBuffer} without building {@link JSON} objects first. The output is the
+ * same as {@link JSON#toString(boolean)} would produce for the equivalent objects.
+ * Nesting gets checked on every call so only valid JSON data can be written.
+ * <pre>
+ * JsonGenerator gen = new JsonGenerator(output, true);
+ * gen.writeStartObject().writeFieldName("id").writeNumber(42).writeEndObject().close();
+ * </pre>
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonGenerator implements Closeable, Flushable {
+
+	private static final byte CONTEXT_ROOT = 0, CONTEXT_OBJECT = 1, CONTEXT_ARRAY = 2;
+
+	private final JsonWriter writer;
+	private final OutputStream output;
+	private final boolean prettyPrint;
+	private byte[] contexts = new byte[16];
+	private boolean[] hasValues = new boolean[16];
+	private int depth = 0;
+	private boolean hasFieldName = false;
+
+	/**
+	 * Creates a generator that writes compact JSON data into the given {@link OutputStream}
+	 * @param output Stream the data should be written to
+	 * @throws NullPointerException if output is null
+	 */
+	public JsonGenerator(OutputStream output) throws NullPointerException {
+		this(output, false);
+	}
+
+	/**
+	 * Creates a generator that writes JSON data into the given {@link OutputStream}
+	 * @param output Stream the data should be written to
+	 * @param prettyPrint If true will add extra spacers and line breaks for easy human reading
+	 * @throws NullPointerException if output is null
+	 */
+	public JsonGenerator(OutputStream output, boolean prettyPrint) throws NullPointerException {
+		if(output==null){ throw new NullPointerException("OutputStream cannot be null"); }
+		this.output = output;
+		this.writer = new JsonWriter(output);
+		this.prettyPrint = prettyPrint;
+	}
+
+	/**
+	 * Creates a generator that writes compact JSON data into the given {@link ByteBuffer}.
+	 * Data is only guaranteed to be inside of the buffer after {@link #flush()} has been called
+	 * @param buffer Buffer the data should be written to
+	 * @throws NullPointerException if buffer is null
+	 */
+	public JsonGenerator(ByteBuffer buffer) throws NullPointerException {
+		this(buffer, false);
+	}
+
+	/**
+	 * Creates a generator that writes JSON data into the given {@link ByteBuffer}.
+	 * Data is only guaranteed to be inside of the buffer after {@link #flush()} has been called
+	 * @param buffer Buffer the data should be written to
+	 * @param prettyPrint If true will add extra spacers and line breaks for easy human reading
+	 * @throws NullPointerException if buffer is null
+	 */
+	public JsonGenerator(ByteBuffer buffer, boolean prettyPrint) throws NullPointerException {
+		this(new ByteBufferOutputStream(buffer), prettyPrint);
+	}
+
+	/**
+	 * Returns if the generator adds extra spacers and line breaks
+	 * @return True if pretty printing is enabled
+	 */
+	public boolean isPrettyPrint(){
+		return prettyPrint;
+	}
+
+	/**
+	 * Returns the amount of objects and arrays that have been started but not ended yet
+	 * @return Nesting depth (zero at top level)
+	 */
+	public int getDepth(){
+		return depth;
+	}
+
+	/**
+	 * Starts a new object
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeStartObject() throws IOException, JsonException {
+		beforeValue();
+		writer.write('{');
+		push(CONTEXT_OBJECT);
+		return this;
+	}
+
+	/**
+	 * Ends the current object
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no object has been started or a field name is missing its value
+	 */
+	public JsonGenerator writeEndObject() throws IOException, JsonException {
+		if(contexts[depth]!=CONTEXT_OBJECT){ throw new JsonException("Cannot end object because current context is not an object"); }
+		if(hasFieldName){ throw new JsonException("Cannot end object because last field name has no value"); }
+		pop();
+		writer.write('}');
+		return this;
+	}
+
+	/**
+	 * Starts a new array
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeStartArray() throws IOException, JsonException {
+		beforeValue();
+		writer.write('[');
+		push(CONTEXT_ARRAY);
+		return this;
+	}
+
+	/**
+	 * Ends the current array
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no array has been started
+	 */
+	public JsonGenerator writeEndArray() throws IOException, JsonException {
+		if(contexts[depth]!=CONTEXT_ARRAY){ throw new JsonException("Cannot end array because current context is not an array"); }
+		pop();
+		writer.write(']');
+		return this;
+	}
+
+	/**
+	 * Writes the key of the next object member
+	 * @param name Key of the member
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws NullPointerException if name is null
+	 * @throws JsonException if current context is not an object or the previous field name has no value
+	 */
+	public JsonGenerator writeFieldName(String name) throws IOException, NullPointerException, JsonException {
+		if(name==null){ throw new NullPointerException("Field name cannot be null"); }
+		if(contexts[depth]!=CONTEXT_OBJECT){ throw new JsonException("Field names can only be written inside of objects"); }
+		if(hasFieldName){ throw new JsonException("Expected a value for the previous field name"); }
+		separate();
+		writer.write('"');
+		writer.write(name);
+		writer.write(JsonWriter.KEY_SEPARATOR);
+		hasFieldName = true;
+		return this;
+	}
+
+	/**
+	 * Writes a string value (if null then null gets written)
+	 * @param value String that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeString(String value) throws IOException, JsonException {
+		beforeValue();
+		if(value!=null){
+			writer.write('"');
+			writer.write(value);
+			writer.write('"');
+		} else {
+			writer.write(JsonWriter.NULL);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a number value
+	 * @param value Number that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeNumber(long value) throws IOException, JsonException {
+		beforeValue();
+		writer.write(value);
+		return this;
+	}
+
+	/**
+	 * Writes a number value
+	 * @param value Number that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeNumber(double value) throws IOException, JsonException {
+		beforeValue();
+		writer.write(value);
+		return this;
+	}
+
+	/**
+	 * Writes a boolean value
+	 * @param value Boolean that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeBoolean(boolean value) throws IOException, JsonException {
+		beforeValue();
+		writer.write(value ? JsonWriter.TRUE : JsonWriter.FALSE);
+		return this;
+	}
+
+	/**
+	 * Writes a null value
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeNull() throws IOException, JsonException {
+		beforeValue();
+		writer.write(JsonWriter.NULL);
+		return this;
+	}
+
+	/**
+	 * Writes a complete {@link JSON} object as value (if null then null gets written)
+	 * @param value Object that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	public JsonGenerator writeValue(JSON<?> value) throws IOException, JsonException {
+		beforeValue();
+		if(value!=null) value.toJSON(writer, prettyPrint, depth); else writer.write(JsonWriter.NULL);
+		return this;
+	}
+
+	/**
+	 * Writes all buffered data to the {@link OutputStream} or {@link ByteBuffer}
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	/**
+	 * Flushes all buffered data and closes the {@link OutputStream}
+	 * @throws IOException if writing to or closing the {@link OutputStream} fails
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writer.flush();
+		} finally { output.close(); }
+	}
+
+	/**
+	 * Checks if a value can be written at the current position
+	 * and writes the separator in front of it
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws JsonException if no value is allowed at this position
+	 */
+	private void beforeValue() throws IOException, JsonException {
+		switch (contexts[depth]) {
+			case CONTEXT_OBJECT:
+				if(!hasFieldName){ throw new JsonException("Expected a field name before a value inside of an object"); }
+				hasFieldName = false;
+				return;
+			case CONTEXT_ARRAY:
+				separate();
+				return;
+			default:
+				if(hasValues[0]){ throw new JsonException("Only one value can be written at the top level"); }
+				hasValues[0] = true;
+		}
+	}
+
+	private void separate() throws IOException {
+		if(hasValues[depth]) writer.write(','); else hasValues[depth] = true;
+		if(prettyPrint) writer.newLine(depth);
+	}
+
+	private void push(byte context){
+		if(++depth==contexts.length){
+			byte[] arr = new byte[contexts.length<<1];
+			System.arraycopy(contexts, 0, arr, 0, contexts.length);
+			contexts = arr;
+			boolean[] values = new boolean[arr.length];
+			System.arraycopy(hasValues, 0, values, 0, hasValues.length);
+			hasValues = values;
+		}
+		contexts[depth] = context;
+		hasValues[depth] = false;
+	}
+
+	private void pop() throws IOException {
+		if(prettyPrint && hasValues[depth]) writer.newLine(depth-1);
+		depth--;
+	}
+
+
+	/** Adapter that lets the {@link JsonWriter} write into a {@link ByteBuffer} */
+	private static class ByteBufferOutputStream extends OutputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferOutputStream(ByteBuffer buffer){
+			if(buffer==null){ throw new NullPointerException("ByteBuffer cannot be null"); }
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			buffer.put((byte)b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			buffer.put(b, off, len);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.lupcode.JSON;
+
+/** Callbacks that get fired by {@link JsonReader#parse(JsonHandler)} for every
+ * element of the JSON data without building {@link JsonObject} or {@link JsonArray} nodes.
+ * Every callback returns a {@link Signal} that tells the parser how to continue,
+ * all callbacks return {@link Signal#CONTINUE} by default.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public interface JsonHandler {
+
+	/** Tells the parser how to continue after a callback */
+	public enum Signal {
+
+		/** Continue parsing with the next element */
+		CONTINUE,
+
+		/** Skip the object or array that has just started or the value of the key that has just been read.
+		 * For all other callbacks same as {@link #CONTINUE} */
+		SKIP,
+
+		/** Stop parsing immediately */
+		STOP;
+	}
+
+	/**
+	 * Called when an object starts
+	 * @return Signal how to continue, {@link Signal#SKIP} skips the whole object
+	 */
+	public default Signal startObject(){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called when an object ends
+	 * @return Signal how to continue
+	 */
+	public default Signal endObject(){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called when an array starts
+	 * @return Signal how to continue, {@link Signal#SKIP} skips the whole array
+	 */
+	public default Signal startArray(){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called when an array ends
+	 * @return Signal how to continue
+	 */
+	public default Signal endArray(){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for the key of an object member
+	 * @param key Key of the member
+	 * @return Signal how to continue, {@link Signal#SKIP} skips the value of the member
+	 */
+	public default Signal key(CharSequence key){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for numbers without fraction that fit into a long
+	 * @param value Value of the number
+	 * @return Signal how to continue
+	 */
+	public default Signal value(long value){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for all other numbers
+	 * @param value Value of the number
+	 * @return Signal how to continue
+	 */
+	public default Signal value(double value){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for strings
+	 * @param value Value of the string
+	 * @return Signal how to continue
+	 */
+	public default Signal value(CharSequence value){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for booleans
+	 * @param value Value of the boolean
+	 * @return Signal how to continue
+	 */
+	public default Signal value(boolean value){
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Called for null values
+	 * @return Signal how to continue
+	 */
+	public default Signal nullValue(){
+		return Signal.CONTINUE;
+	}
+}
@@ -0,0 +1,118 @@
+package com.lupcode.JSON;
+
+import java.nio.charset.StandardCharsets;
+
+/** Bounded cache that maps the raw UTF-8 bytes of object keys to {@link String} instances,
+ * so keys that repeat while parsing (e.g. arrays of records) are only decoded once
+ * and all objects share the same key instances.
+ * The cache has a fixed amount of slots and replaces older keys when slots collide.
+ * An instance can be passed to {@link JsonParseOptions#setKeyCache(JsonKeyCache)} to be reused
+ * over several parse calls and to read its statistics afterwards.
+ * Not thread safe, so it must not be used by parse calls that run at the same time
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public final class JsonKeyCache {
+
+	/** Keys with more bytes are decoded without being cached */
+	public static final int MAX_KEY_LENGTH = 64;
+
+	private final int mask;
+	private int[] hashes = null;
+	private byte[][] keys = null;
+	private String[] values = null;
+	private long hits = 0, misses = 0;
+
+	/**
+	 * Creates a cache with the given amount of slots
+	 * @param capacity Amount of keys the cache can hold, rounded up to a power of two
+	 * @throws IllegalArgumentException if capacity is smaller than one
+	 */
+	public JsonKeyCache(int capacity) throws IllegalArgumentException {
+		if(capacity<1){ throw new IllegalArgumentException("Capacity must be at least one"); }
+		if(capacity>(1<<30)){ capacity = 1<<30; }
+		this.mask = (capacity<=1 ? 1 : Integer.highestOneBit(capacity-1)<<1) - 1;
+	}
+
+	/**
+	 * Returns the amount of keys the cache can hold
+	 * @return Amount of slots
+	 */
+	public int getCapacity(){
+		return mask+1;
+	}
+
+	/**
+	 * Returns how many keys have been taken from the cache
+	 * @return Amount of hits
+	 */
+	public long getHits(){
+		return hits;
+	}
+
+	/**
+	 * Returns how many keys had to be decoded
+	 * @return Amount of misses
+	 */
+	public long getMisses(){
+		return misses;
+	}
+
+	/**
+	 * Returns the share of keys that have been taken from the cache
+	 * @return Value between 0 and 1 (0 if no key has been looked up yet)
+	 */
+	public double getHitRate(){
+		long total = hits + misses;
+		return total==0 ? 0 : (double)hits / total;
+	}
+
+	/**
+	 * Removes all cached keys and resets the statistics
+	 * @return This instance
+	 */
+	public JsonKeyCache clear(){
+		hashes = null; keys = null; values = null;
+		hits = 0; misses = 0;
+		return this;
+	}
+
+	/**
+	 * Returns the key for the given UTF-8 bytes, decoding and caching it if not present
+	 * @param buf Buffer containing the key without quotes
+	 * @param from Index of the first byte of the key
+	 * @param to Index after the last byte of the key
+	 * @return Decoded key
+	 */
+	String get(byte[] buf, int from, int to){
+		final int len = to - from;
+		if(len>MAX_KEY_LENGTH){
+			misses++;
+			return new String(buf, from, len, StandardCharsets.UTF_8);
+		}
+		if(values==null){
+			hashes = new int[mask+1]; keys = new byte[mask+1][]; values = new String[mask+1];
+		}
+		int h = len;
+		for(int i=from; i<to; i++) h = 31*h + buf[i];
+		h ^= h >>> 16;
+		final int first = h & mask, second = (first+1) & mask; // two slots per key reduce collisions between few hot keys
+		if(matches(first, h, buf, from, len)){ hits++; return values[first]; }
+		if(matches(second, h, buf, from, len)){ hits++; return values[second]; }
+		final int idx = keys[first]==null ? first : keys[second]==null ? second : first;
+		misses++;
+		byte[] key = new byte[len];
+		System.arraycopy(buf, from, key, 0, len);
+		String value = new String(key, StandardCharsets.UTF_8);
+		hashes[idx] = h; keys[idx] = key; values[idx] = value;
+		return value;
+	}
+
+	private boolean matches(int idx, int hash, byte[] buf, int from, int len){
+		byte[] key = keys[idx];
+		if(key==null || hashes[idx]!=hash || key.length!=len) return false;
+		for(int i=0; i<len; i++)
+			if(key[i]!=buf[from+i]) return false;
+		return true;
+	}
+}
@@ -0,0 +1,438 @@
+package com.lupcode.JSON;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.lupcode.JSON.exceptions.JsonParseException;
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Reader for newline delimited JSON data (NDJSON / JSON Lines) where every line contains one value.
+ * The input gets split into batches of whole lines at byte level without decoding it,
+ * the batches are then parsed in parallel on an {@link Executor} (by default the
+ * {@link ForkJoinPool#commonPool()}) while the next batches are read.
+ * Values are returned in the order of their lines, or in the order their batches
+ * finished parsing if {@link #setOrdered(boolean)} is disabled. Blank lines get skipped.
+ * Escape sequences in strings (e.g. \n or &#92;u0001) get decoded like the JSON standard defines them,
+ * so values written by {@link JsonLinesWriter} are read back unchanged.
+ * <pre>
+ * try(JsonLinesReader reader = new JsonLinesReader(file)){
+ * 	reader.stream().filter(json -&gt; json instanceof JsonObject).count();
+ * }
+ * </pre>
+ * A reader is not thread safe, only the parsing of the batches runs in parallel
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonLinesReader implements Closeable {
+
+	/** Amount of bytes that get parsed together by default */
+	public static final int DEFAULT_BATCH_SIZE = 1 << 18;
+
+	private static final JSON<?>[] NO_VALUES = new JSON<?>[0];
+
+	private final InputStream input;
+	private final JsonParseOptions options;
+	private Executor executor = ForkJoinPool.commonPool();
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private boolean ordered = true;
+
+	private boolean started = false, eof = false, closed = false;
+	private byte[] rest = null; // beginning of a line that has not been completely read
+	private int restLength = 0, batchLength = 0;
+	private long line = 1, offset = 0; // position where the next batch starts
+	private final ArrayDeque<CompletableFuture<JSON<?>[]>> pending = new ArrayDeque<>();
+	private final LinkedBlockingQueue<CompletableFuture<JSON<?>[]>> done = new LinkedBlockingQueue<>();
+	private int running = 0;
+	private JSON<?>[] values = NO_VALUES;
+	private int index = 0;
+
+	/**
+	 * Creates a reader that parses the given {@link InputStream} in UTF-8
+	 * @param input Stream that should be parsed
+	 * @throws NullPointerException if input is null
+	 */
+	public JsonLinesReader(InputStream input) throws NullPointerException {
+		this(input, null);
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link InputStream} in UTF-8
+	 * @param input Stream that should be parsed
+	 * @param options Options how the lines should be parsed (null for default options)
+	 * @throws NullPointerException if input is null
+	 */
+	public JsonLinesReader(InputStream input, JsonParseOptions options) throws NullPointerException {
+		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
+		this.input = input;
+		this.options = options;
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link File}
+	 * @param file File that should be parsed
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonLinesReader(File file) throws NullPointerException, IOException {
+		this(file, null);
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link File}
+	 * @param file File that should be parsed
+	 * @param options Options how the file should be read and the lines parsed (null for default options)
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonLinesReader(File file, JsonParseOptions options) throws NullPointerException, IOException {
+		this(JSON.openFile(file, options), options);
+	}
+
+	/**
+	 * Returns the executor the batches get parsed on
+	 * @return Executor or null if batches get parsed on the calling thread
+	 */
+	public Executor getExecutor(){
+		return executor;
+	}
+
+	/**
+	 * Sets the executor the batches should be parsed on.
+	 * A {@link JsonKeyCache} set in the options is only used if the batches get parsed
+	 * on the calling thread, otherwise each batch gets its own cache of the same size
+	 * (default {@link ForkJoinPool#commonPool()})
+	 * @param executor Executor or null if batches should be parsed on the calling thread
+	 * @return This instance
+	 * @throws IllegalStateException if reading has already started
+	 */
+	public JsonLinesReader setExecutor(Executor executor) throws IllegalStateException {
+		checkNotStarted();
+		this.executor = executor; return this;
+	}
+
+	/**
+	 * Returns how many batches get parsed at the same time
+	 * @return Maximum amount of batches in parsing
+	 */
+	public int getParallelism(){
+		return parallelism;
+	}
+
+	/**
+	 * Sets how many batches may be parsed at the same time.
+	 * Limits how far reading can be ahead of the returned values
+	 * (default amount of available processors)
+	 * @param parallelism Maximum amount of batches in parsing
+	 * @return This instance
+	 * @throws IllegalArgumentException if parallelism is smaller than one
+	 * @throws IllegalStateException if reading has already started
+	 */
+	public JsonLinesReader setParallelism(int parallelism) throws IllegalArgumentException, IllegalStateException {
+		if(parallelism<1){ throw new IllegalArgumentException("Parallelism must be at least one"); }
+		checkNotStarted();
+		this.parallelism = parallelism; return this;
+	}
+
+	/**
+	 * Returns how many bytes get parsed together
+	 * @return Size of a batch in bytes
+	 */
+	public int getBatchSize(){
+		return batchSize;
+	}
+
+	/**
+	 * Sets how many bytes should be parsed together. Batches always end at a line break,
+	 * so a batch grows if a single line is longer (default {@link #DEFAULT_BATCH_SIZE})
+	 * @param batchSize Size of a batch in bytes
+	 * @return This instance
+	 * @throws IllegalArgumentException if batch size is smaller than one
+	 * @throws IllegalStateException if reading has already started
+	 */
+	public JsonLinesReader setBatchSize(int batchSize) throws IllegalArgumentException, IllegalStateException {
+		if(batchSize<1){ throw new IllegalArgumentException("Batch size must be at least one"); }
+		checkNotStarted();
+		this.batchSize = batchSize; return this;
+	}
+
+	/**
+	 * Returns if values are returned in the order of their lines
+	 * @return True if the order is kept
+	 */
+	public boolean isOrdered(){
+		return ordered;
+	}
+
+	/**
+	 * Sets if values should be returned in the order of their lines.
+	 * If disabled, batches are returned as soon as they have been parsed,
+	 * so a slow batch does not hold back the following ones.
+	 * Values of the same batch always keep their order (default true)
+	 * @param ordered True if the order should be kept
+	 * @return This instance
+	 * @throws IllegalStateException if reading has already started
+	 */
+	public JsonLinesReader setOrdered(boolean ordered) throws IllegalStateException {
+		checkNotStarted();
+		this.ordered = ordered; return this;
+	}
+
+	/**
+	 * Returns the value of the next non blank line
+	 * @return Parsed value or null if the end has been reached
+	 * @throws JsonParseException if a line could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	public JSON<?> read() throws JsonParseException, IOException {
+		while(index>=values.length){
+			if(!nextBatch()) return null;
+		}
+		JSON<?> value = values[index];
+		values[index++] = null; // no longer referenced by the reader
+		return value;
+	}
+
+	/**
+	 * Passes the values of all remaining lines to the given consumer
+	 * @param consumer Consumer that receives the values
+	 * @throws JsonParseException if a line could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws NullPointerException if consumer is null
+	 */
+	public void forEach(Consumer<? super JSON<?>> consumer) throws JsonParseException, IOException, NullPointerException {
+		if(consumer==null){ throw new NullPointerException("Consumer cannot be null"); }
+		JSON<?> value;
+		while((value = read())!=null) consumer.accept(value);
+	}
+
+	/**
+	 * Returns a sequential stream of the values of all remaining lines.
+	 * Closing the stream closes this reader. Errors while reading
+	 * are thrown as {@link UncheckedIOException}
+	 * @return Stream of the values
+	 */
+	public Stream<JSON<?>> stream(){
+		Iterator<JSON<?>> iterator = new Iterator<JSON<?>>(){
+			private JSON<?> next = null;
+
+			@Override
+			public boolean hasNext(){
+				if(next==null){
+					try {
+						next = read();
+					} catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}
+				return next!=null;
+			}
+
+			@Override
+			public JSON<?> next(){
+				if(!hasNext()) throw new NoSuchElementException();
+				JSON<?> value = next;
+				next = null;
+				return value;
+			}
+		};
+		int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false).onClose(new Runnable(){
+			@Override
+			public void run(){
+				try {
+					close();
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Stops parsing further batches and closes the {@link InputStream}
+	 * @throws IOException if closing the {@link InputStream} fails
+	 */
+	@Override
+	public void close() throws IOException {
+		if(closed) return;
+		closed = true; eof = true;
+		for(CompletableFuture<JSON<?>[]> future : pending) future.cancel(false);
+		pending.clear(); done.clear();
+		running = 0;
+		values = NO_VALUES; index = 0;
+		input.close();
+	}
+
+	/**
+	 * Starts parsing batches until the parallelism is reached and takes the next parsed batch
+	 * @return True if a batch has been taken or false if all batches have been returned
+	 * @throws JsonParseException if a line of the batch could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private boolean nextBatch() throws JsonParseException, IOException {
+		if(closed){ throw new IOException("Reader has been closed"); }
+		started = true;
+		fill();
+		if(running==0) return false;
+		CompletableFuture<JSON<?>[]> future;
+		if(ordered){
+			future = pending.poll();
+		} else {
+			try {
+				future = done.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for parsed lines");
+			}
+			pending.remove(future);
+		}
+		running--;
+		fill(); // keep the executor busy while the batch gets consumed
+		try {
+			values = future.join();
+		} catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if(cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if(cause instanceof Error) throw (Error)cause;
+			throw new JsonParseException(cause);
+		} catch (CancellationException ex) {
+			throw new IOException("Reader has been closed", ex);
+		}
+		index = 0;
+		return true;
+	}
+
+	private void fill() throws IOException {
+		while(running<parallelism && !eof){
+			final byte[] batch = readBatch();
+			final int length = batchLength;
+			if(length==0) continue;
+			final LineColumnTracker origin = new LineColumnTracker(line, 0, offset);
+			for(int i=0; i<length; i++)
+				if(batch[i]=='\n') line++;
+			offset += length;
+
+			final CompletableFuture<JSON<?>[]> future;
+			Supplier<JSON<?>[]> task = new Supplier<JSON<?>[]>(){
+				@Override
+				public JSON<?>[] get(){
+					return parseBatch(batch, length, origin);
+				}
+			};
+			if(executor!=null){
+				future = CompletableFuture.supplyAsync(task, executor);
+			} else {
+				future = new CompletableFuture<>();
+				try {
+					future.complete(task.get());
+				} catch (Throwable ex) {
+					future.completeExceptionally(ex);
+				}
+			}
+			pending.add(future);
+			running++;
+			if(!ordered){
+				future.whenComplete(new BiConsumer<JSON<?>[], Throwable>(){
+					@Override
+					public void accept(JSON<?>[] result, Throwable ex){
+						done.add(future);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Reads bytes up to and including the last line break that fits into a batch.
+	 * The bytes after the line break are kept for the next batch
+	 * and the amount of bytes of the batch is stored in {@link #batchLength}
+	 * @return Buffer that starts with the batch
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private byte[] readBatch() throws IOException {
+		byte[] buf = new byte[Math.max(batchSize, restLength+1)];
+		int len = 0;
+		if(rest!=null){
+			System.arraycopy(rest, 0, buf, 0, restLength);
+			len = restLength;
+			rest = null; restLength = 0;
+		}
+		int searched = 0; // bytes that are known to contain no line break
+		for(;;){
+			while(len<buf.length){
+				int n = input.read(buf, len, buf.length-len);
+				if(n<0){ eof = true; break; }
+				len += n;
+			}
+			int last = len-1;
+			while(last>=searched && buf[last]!='\n') last--;
+			if(last>=searched || eof){
+				int end = eof ? len : last+1;
+				if(end<len){
+					restLength = len-end;
+					rest = Arrays.copyOfRange(buf, end, len);
+				}
+				batchLength = end;
+				return buf;
+			}
+			searched = len;
+			buf = Arrays.copyOf(buf, buf.length<<1); // line is longer than a batch
+		}
+	}
+
+	/**
+	 * Parses all lines of a batch
+	 * @param buf Buffer containing the batch
+	 * @param length Amount of bytes of the batch
+	 * @param origin Line and offset where the batch starts
+	 * @return Values of the non blank lines
+	 * @throws JsonParseException if a line could not be parsed correctly
+	 */
+	private JSON<?>[] parseBatch(byte[] buf, int length, LineColumnTracker origin) throws JsonParseException {
+		JsonKeyCache keys = executor!=null ? JsonParseOptions.concurrentKeyCache(options) : JsonParseOptions.keyCache(options);
+		JsonByteParser parser = new JsonByteParser(buf, 0, length, origin, options, keys, new JsonShape.Cache()).decodeEscapes();
+		JSON<?>[] values = new JSON<?>[16];
+		int count = 0;
+		try {
+			for(int from=0; from<length; ){
+				int to = from;
+				while(to<length && buf[to]!='\n') to++;
+				JSON<?> value = parser.readLine(from, to);
+				if(value!=null){
+					if(count==values.length) values = Arrays.copyOf(values, count<<1);
+					values[count++] = value;
+				}
+				from = to+1;
+			}
+		} catch (IOException ex) {
+			throw new JsonParseException(ex);
+		}
+		return count==values.length ? values : Arrays.copyOf(values, count);
+	}
+
+	private void checkNotStarted() throws IllegalStateException {
+		if(started){ throw new IllegalStateException("Reading has already started"); }
+	}
+}
@@ -0,0 +1,129 @@
+package com.lupcode.JSON;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/** Writer for newline delimited JSON data (NDJSON / JSON Lines) that writes every value
+ * in its compact form as produced by {@link JSON#toString(boolean)} into its own line.
+ * All lines go through one buffer that only gets flushed when it is full,
+ * on {@link #flush()} or on {@link #close()}.
+ * Quotes, backslashes and control characters in strings and keys get escaped like the JSON standard
+ * defines it, so every value stays on its own line. {@link JsonLinesReader} decodes these escape sequences,
+ * so the strings are read back unchanged.
+ * <pre>
+ * try(JsonLinesWriter writer = new JsonLinesWriter(file)){
+ * 	writer.write(new JsonObject().put("id", 1)).write(new JsonObject().put("id", 2));
+ * }
+ * </pre>
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonLinesWriter implements Closeable, Flushable {
+
+	private final OutputStream output;
+	private final JsonWriter writer;
+
+	/**
+	 * Creates a writer that writes the lines into the given {@link OutputStream}
+	 * @param output Stream the lines should be written to
+	 * @throws NullPointerException if output is null
+	 */
+	public JsonLinesWriter(OutputStream output) throws NullPointerException {
+		if(output==null){ throw new NullPointerException("OutputStream cannot be null"); }
+		this.output = output;
+		this.writer = new JsonWriter(output, true);
+	}
+
+	/**
+	 * Creates a writer that writes the lines into the given {@link File}
+	 * @param file File the lines should be written to
+	 * @param append If true lines are appended to the existing content of the file
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonLinesWriter(File file, boolean append) throws NullPointerException, IOException {
+		this(new FileOutputStream(nonNull(file), append));
+	}
+
+	/**
+	 * Creates a writer that replaces the content of the given {@link File} with the lines
+	 * @param file File the lines should be written to
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonLinesWriter(File file) throws NullPointerException, IOException {
+		this(file, false);
+	}
+
+	/**
+	 * Writes the given value as a line
+	 * @param value Value that should be written (null gets written as null)
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	public JsonLinesWriter write(JSON<?> value) throws IOException {
+		if(value!=null) value.toJSON(writer, false, 0); else writer.write(JsonWriter.NULL);
+		writer.write('\n');
+		return this;
+	}
+
+	/**
+	 * Writes every value of the given {@link Iterable} as a line
+	 * @param values Values that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws NullPointerException if values is null
+	 */
+	public JsonLinesWriter writeAll(Iterable<? extends JSON<?>> values) throws IOException, NullPointerException {
+		if(values==null){ throw new NullPointerException("Values cannot be null"); }
+		return writeAll(values.iterator());
+	}
+
+	/**
+	 * Writes every value of the given {@link Stream} as a line in the order of the stream
+	 * @param values Values that should be written
+	 * @return This instance
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 * @throws NullPointerException if values is null
+	 */
+	public JsonLinesWriter writeAll(Stream<? extends JSON<?>> values) throws IOException, NullPointerException {
+		if(values==null){ throw new NullPointerException("Values cannot be null"); }
+		return writeAll(values.iterator());
+	}
+
+	private JsonLinesWriter writeAll(Iterator<? extends JSON<?>> iterator) throws IOException {
+		while(iterator.hasNext()) write(iterator.next());
+		return this;
+	}
+
+	/**
+	 * Writes all buffered lines to the {@link OutputStream}
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	/**
+	 * Flushes all buffered lines and closes the {@link OutputStream}
+	 * @throws IOException if writing to or closing the {@link OutputStream} fails
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writer.flush();
+		} finally { output.close(); }
+	}
+
+	private static File nonNull(File file) throws NullPointerException {
+		if(file==null){ throw new NullPointerException("File cannot be null"); }
+		return file;
+	}
+}
@@ -0,0 +1,363 @@
+package com.lupcode.JSON;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** Insertion ordered map that stores the members of a {@link JsonObject} in two
+ * packed parallel arrays instead of one linked entry object per member.
+ * Small maps are searched linearly, a hash index of plain ints is only built
+ * once the map holds more than {@link #INDEX_THRESHOLD} members.
+ * Maps created by the parsers may share their key array and index with other maps
+ * through a {@link JsonShape}, in that case only the values are stored per map.
+ * Adding or removing keys moves such a map to another shape or gives it its own keys.
+ * Keys must not be null, entries of {@link #entrySet()} are created on iteration
+ * and write through on {@link java.util.Map.Entry#setValue(Object)}.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonMap extends AbstractMap<String, JSON<?>> {
+
+	/** Maps with more members than this get a hash index */
+	static final int INDEX_THRESHOLD = 8;
+
+	private static final String[] NO_KEYS = new String[0];
+	private static final JSON<?>[] NO_VALUES = new JSON<?>[0];
+
+	private String[] keys;
+	private JSON<?>[] values;
+	private int size = 0;
+	private int[] index = null; // positions+1 in open addressing, only used above the threshold
+	private JsonShape shape = null; // if set keys and index belong to the shape and must not be modified
+	private int modCount = 0;
+
+	JsonMap(){
+		this.keys = NO_KEYS;
+		this.values = NO_VALUES;
+	}
+
+	/**
+	 * Creates a map with room for the given amount of members
+	 * @param capacity Amount of members that can be added without growing
+	 */
+	JsonMap(int capacity){
+		this.keys = capacity>0 ? new String[capacity] : NO_KEYS;
+		this.values = capacity>0 ? new JSON<?>[capacity] : NO_VALUES;
+	}
+
+	/**
+	 * Creates a map that shares the keys of the given shape
+	 * @param shape Shape describing the keys
+	 * @param values Values in the order of the shape's keys
+	 */
+	JsonMap(JsonShape shape, JSON<?>[] values){
+		this.shape = shape;
+		this.keys = shape.keys;
+		this.index = shape.index;
+		this.values = values;
+		this.size = shape.keys.length;
+	}
+
+	/**
+	 * Returns the shape whose keys this map shares
+	 * @return Shape or null if this map has its own keys
+	 */
+	JsonShape shape(){
+		return shape;
+	}
+
+	/**
+	 * Creates a map with exactly the room needed for the given members.
+	 * Later duplicates of a key replace the value but keep the first position
+	 * @param keys Keys of the members
+	 * @param values Values of the members
+	 * @param from Index of the first member
+	 * @param to Index after the last member
+	 * @return Map containing the members
+	 */
+	static JsonMap of(String[] keys, JSON<?>[] values, int from, int to){
+		JsonMap map = new JsonMap(to-from);
+		for(int i=from; i<to; i++) map.put(keys[i], values[i]);
+		return map;
+	}
+
+	@Override
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Returns the key at the given position
+	 * @param i Position in insertion order
+	 * @return Key
+	 */
+	String keyAt(int i){
+		return keys[i];
+	}
+
+	/**
+	 * Returns the value at the given position
+	 * @param i Position in insertion order
+	 * @return Value
+	 */
+	JSON<?> valueAt(int i){
+		return values[i];
+	}
+
+	@Override
+	public boolean containsKey(Object key){
+		return indexOf(key)>=0;
+	}
+
+	@Override
+	public boolean containsValue(Object value){
+		for(int i=0; i<size; i++)
+			if(value==null ? values[i]==null : value.equals(values[i])) return true;
+		return false;
+	}
+
+	@Override
+	public JSON<?> get(Object key){
+		int i = indexOf(key);
+		return i>=0 ? values[i] : null;
+	}
+
+	@Override
+	public JSON<?> put(String key, JSON<?> value){
+		if(key==null){ throw new NullPointerException("Key cannot be null"); }
+		int i = indexOf(key);
+		if(i>=0){
+			JSON<?> old = values[i];
+			values[i] = value;
+			return old;
+		}
+		modCount++;
+		if(shape!=null){
+			JsonShape next = shape.add(key);
+			if(next!=null){
+				if(size==values.length) values = Arrays.copyOf(values, size + (size>>1) + 1);
+				values[size++] = value;
+				adopt(next);
+				return null;
+			}
+			detach();
+		}
+		if(size==keys.length) grow();
+		keys[size] = key;
+		values[size] = value;
+		size++;
+		if(index!=null){
+			if(size<<1 > index.length) index = buildIndex(keys, size); else addToIndex(index, keys, size-1);
+		} else if(size>INDEX_THRESHOLD) index = buildIndex(keys, size);
+		return null;
+	}
+
+	@Override
+	public JSON<?> remove(Object key){
+		int i = indexOf(key);
+		if(i<0) return null;
+		JSON<?> old = values[i];
+		removeAt(i);
+		return old;
+	}
+
+	@Override
+	public void clear(){
+		keys = NO_KEYS;
+		values = NO_VALUES;
+		size = 0;
+		index = null;
+		shape = null;
+		modCount++;
+	}
+
+	@Override
+	public Set<String> keySet(){
+		return new AbstractSet<String>(){
+			@Override public int size(){ return size; }
+			@Override public boolean contains(Object o){ return indexOf(o)>=0; }
+			@Override public boolean remove(Object o){
+				int i = indexOf(o);
+				if(i<0) return false;
+				removeAt(i);
+				return true;
+			}
+			@Override public void clear(){ JsonMap.this.clear(); }
+			@Override public Iterator<String> iterator(){
+				return new Cursor<String>(){ @Override String get(int i){ return keys[i]; } };
+			}
+		};
+	}
+
+	@Override
+	public Collection<JSON<?>> values(){
+		return new AbstractCollection<JSON<?>>(){
+			@Override public int size(){ return size; }
+			@Override public boolean contains(Object o){ return containsValue(o); }
+			@Override public void clear(){ JsonMap.this.clear(); }
+			@Override public Iterator<JSON<?>> iterator(){
+				return new Cursor<JSON<?>>(){ @Override JSON<?> get(int i){ return values[i]; } };
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<String, JSON<?>>> entrySet(){
+		return new AbstractSet<Entry<String, JSON<?>>>(){
+			@Override public int size(){ return size; }
+			@Override public void clear(){ JsonMap.this.clear(); }
+			@Override public boolean contains(Object o){
+				if(!(o instanceof Entry)) return false;
+				Entry<?, ?> e = (Entry<?, ?>)o;
+				int i = indexOf(e.getKey());
+				return i>=0 && (values[i]==null ? e.getValue()==null : values[i].equals(e.getValue()));
+			}
+			@Override public boolean remove(Object o){
+				if(!contains(o)) return false;
+				removeAt(indexOf(((Entry<?, ?>)o).getKey()));
+				return true;
+			}
+			@Override public Iterator<Entry<String, JSON<?>>> iterator(){
+				return new Cursor<Entry<String, JSON<?>>>(){
+					@Override Entry<String, JSON<?>> get(int i){ return new Member(keys[i], values[i]); }
+				};
+			}
+		};
+	}
+
+	/** Entry that writes changed values back into the map */
+	private final class Member extends AbstractMap.SimpleEntry<String, JSON<?>> {
+		private static final long serialVersionUID = 1L;
+
+		Member(String key, JSON<?> value){
+			super(key, value);
+		}
+
+		@Override
+		public JSON<?> setValue(JSON<?> value){
+			put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
+
+	/** Iterator over the positions in insertion order */
+	private abstract class Cursor<T> implements Iterator<T> {
+		private int next = 0, last = -1, expectedModCount = modCount;
+
+		abstract T get(int i);
+
+		@Override
+		public boolean hasNext(){
+			return next<size;
+		}
+
+		@Override
+		public T next(){
+			if(modCount!=expectedModCount) throw new ConcurrentModificationException();
+			if(next>=size) throw new NoSuchElementException();
+			last = next++;
+			return get(last);
+		}
+
+		@Override
+		public void remove(){
+			if(last<0) throw new IllegalStateException();
+			if(modCount!=expectedModCount) throw new ConcurrentModificationException();
+			removeAt(last);
+			next = last; last = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private int indexOf(Object key){
+		if(key==null) return -1;
+		if(index==null){
+			for(int i=0; i<size; i++){
+				String k = keys[i];
+				if(k==key || k.equals(key)) return i;
+			}
+			return -1;
+		}
+		final int mask = index.length-1;
+		for(int slot=hash(key) & mask; index[slot]!=0; slot=(slot+1) & mask){
+			int i = index[slot]-1;
+			if(keys[i].equals(key)) return i;
+		}
+		return -1;
+	}
+
+	private void removeAt(int i){
+		int moved = size-i-1;
+		modCount++;
+		if(shape!=null){
+			JsonShape next = shape.remove(i);
+			if(next!=null){
+				if(moved>0) System.arraycopy(values, i+1, values, i, moved);
+				values[--size] = null;
+				adopt(next);
+				return;
+			}
+			detach();
+		}
+		if(moved>0){
+			System.arraycopy(keys, i+1, keys, i, moved);
+			System.arraycopy(values, i+1, values, i, moved);
+		}
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		if(index!=null){
+			index = size>INDEX_THRESHOLD ? buildIndex(keys, size) : null;
+		}
+	}
+
+	/** Shares the keys of the given shape which must match the current members */
+	private void adopt(JsonShape shape){
+		this.shape = shape;
+		this.keys = shape.keys;
+		this.index = shape.index;
+	}
+
+	/** Copies the keys of the shape so they can be modified */
+	private void detach(){
+		keys = Arrays.copyOf(keys, Math.max(values.length, size));
+		if(index!=null) index = index.clone();
+		shape = null;
+	}
+
+	private void grow(){
+		int capacity = keys.length<4 ? 4 : keys.length + (keys.length>>1);
+		keys = Arrays.copyOf(keys, capacity);
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	/**
+	 * Builds a hash index over the given keys
+	 * @param keys Distinct keys
+	 * @param size Amount of keys
+	 * @return Positions+1 of the keys in open addressing
+	 */
+	static int[] buildIndex(String[] keys, int size){
+		int[] index = new int[Integer.highestOneBit(Math.max(size, 1))<<2]; // load factor between 1/4 and 1/2
+		for(int i=0; i<size; i++) addToIndex(index, keys, i);
+		return index;
+	}
+
+	private static void addToIndex(int[] index, String[] keys, int i){
+		final int mask = index.length-1;
+		int slot = hash(keys[i]) & mask;
+		while(index[slot]!=0) slot = (slot+1) & mask;
+		index[slot] = i+1;
+	}
+
+	private static int hash(Object key){
+		int h = key.hashCode();
+		return h ^ (h>>>16);
+	}
+}
@@ -3,9 +3,8 @@ package com.lupcode.JSON;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 
 import com.lupcode.JSON.exceptions.JsonParseException;
 import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
@@ -18,8 +17,12 @@ import com.lupcode.Utilities.streams.UTF8CharInputStream;
  */
 public class JsonNumber extends JSON<JsonNumber> {
 
-	private String value = "0";
-	private boolean has_comma = false;
+	private static final byte TYPE_LONG = 0, TYPE_DOUBLE = 1, TYPE_BIG = 2;
+	
+	private byte type = TYPE_LONG;
+	private long longValue = 0;
+	private double doubleValue = 0;
+	private String value = null; // only set if it differs from the shortest form of the stored primitive
 	
 	public JsonNumber(){
 		
@@ -59,7 +62,7 @@ public class JsonNumber extends JSON<JsonNumber> {
 	 * @return True if comma is contained
 	 */
 	public boolean hasComma(){
-		return has_comma;
+		return type==TYPE_DOUBLE;
 	}
 	
 	/**
@@ -67,7 +70,8 @@ public class JsonNumber extends JSON<JsonNumber> {
 	 * @return Number value
 	 */
 	public String getValue(){
-		return value;
+		if(value!=null) return value;
+		return type==TYPE_DOUBLE ? JsonNumberCodec.toString(doubleValue) : Long.toString(longValue);
 	}
 	
 	/**
@@ -78,64 +82,138 @@ public class JsonNumber extends JSON<JsonNumber> {
 	public JsonNumber setValue(String value){
 		if(value!=null){
 			parseJSON(value, new LineColumnTracker());
-		} else { this.value = "0"; this.has_comma = false; }
+		} else { setValue(0L); }
 		return this;
 	}
 	
 	public JsonNumber setValue(double value){
-		this.value = value+""; this.has_comma = true; return this;
+		this.type = TYPE_DOUBLE; this.doubleValue = value; this.value = null; return this;
 	}
 	
 	public JsonNumber setValue(float value){
-		this.value = value+""; this.has_comma = true; return this;
+		String str = Float.toString(value); // keeps the short form of the float
+		this.type = TYPE_DOUBLE; this.doubleValue = Double.parseDouble(str); this.value = str; return this;
 	}
 	
 	public JsonNumber setValue(long value){
-		this.value = value+""; this.has_comma = false; return this;
+		this.type = TYPE_LONG; this.longValue = value; this.value = null; return this;
 	}
 	
 	public JsonNumber setValue(short value){
-		this.value = value+""; this.has_comma = false; return this;
+		return setValue((long)value);
 	}
 	
 	public JsonNumber setValue(byte value){
-		this.value = value+""; this.has_comma = false; return this;
+		return setValue((long)value);
+	}
+	
+	/**
+	 * Sets the value from text that has already been validated by a parser.
+	 * The text is only kept if it differs from the shortest form of the parsed value
+	 * @param lexeme Number as it has been written
+	 */
+	void setLexeme(String lexeme){
+		if(lexeme.indexOf('.')>=0 || lexeme.indexOf('e')>=0 || lexeme.indexOf('E')>=0){
+			setDecimal(lexeme, JsonNumberCodec.parseDouble(lexeme));
+			return;
+		}
+		try {
+			this.longValue = Long.parseLong(lexeme);
+			this.type = TYPE_LONG;
+			this.value = Long.toString(longValue).equals(lexeme) ? null : lexeme;
+		} catch (NumberFormatException ex){
+			this.type = TYPE_BIG;
+			this.doubleValue = JsonNumberCodec.parseDouble(lexeme);
+			this.value = lexeme;
+		}
+	}
+	
+	/**
+	 * Sets a number with fraction or exponent whose value has already been converted by a parser
+	 * @param lexeme Number as it has been written
+	 * @param value Value of the number
+	 */
+	void setDecimal(String lexeme, double value){
+		this.type = TYPE_DOUBLE;
+		this.doubleValue = value;
+		this.value = lexeme;
+	}
+	
+	/**
+	 * Takes over the value of another number whose fields hold its value
+	 * @param number Number the value should be copied from
+	 */
+	final void copyValue(JsonNumber number){
+		this.type = number.type;
+		this.longValue = number.longValue;
+		this.doubleValue = number.doubleValue;
+		this.value = number.value;
+	}
+	
+	/**
+	 * Returns if the number is an integer that fits into a long and is written in its shortest form
+	 * @return True if the number is fully described by {@link #getAsLong()}
+	 */
+	boolean isPlainLong(){
+		return type==TYPE_LONG && value==null;
+	}
+	
+	/**
+	 * Returns if the number has a fraction and is written in its shortest form
+	 * @return True if the number is fully described by {@link #getAsDouble()}
+	 */
+	boolean isPlainDouble(){
+		return type==TYPE_DOUBLE && value==null;
 	}
 	
 	public double getAsDouble(){
-		return Double.parseDouble(value);
+		return type==TYPE_LONG ? longValue : doubleValue;
 	}
 	
 	public float getAsFloat(){
-		return Float.parseFloat(value);
+		return (float)getAsDouble();
 	}
 	
-	public int getAsInt(){
-		return Integer.parseInt(value);
+	public int getAsInt() throws NumberFormatException {
+		if(type!=TYPE_LONG || longValue!=(int)longValue) throw notConvertible();
+		return (int)longValue;
 	}
 	
-	public long getAsLong(){
-		return Long.parseLong(value);
+	public long getAsLong() throws NumberFormatException {
+		if(type!=TYPE_LONG) throw notConvertible();
+		return longValue;
 	}
 	
-	public short getAsShort(){
-		return Short.parseShort(value);
+	public short getAsShort() throws NumberFormatException {
+		if(type!=TYPE_LONG || longValue!=(short)longValue) throw notConvertible();
+		return (short)longValue;
 	}
 	
-	public byte getAsByte(){
-		return Byte.parseByte(value);
+	public byte getAsByte() throws NumberFormatException {
+		if(type!=TYPE_LONG || longValue!=(byte)longValue) throw notConvertible();
+		return (byte)longValue;
+	}
+	
+	private NumberFormatException notConvertible(){
+		return new NumberFormatException("For input string: \""+getValue()+"\"");
 	}
 	
 	@Override
-	protected void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException {
-		output.write(value.getBytes(StandardCharsets.UTF_8));
+	void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
+		if(value!=null){
+			writer.write(value);
+		} else if(type==TYPE_LONG){
+			writer.write(longValue);
+		} else {
+			writer.write(doubleValue);
+		}
 	}
 	
 	
 	@Override
 	protected JsonNumber parseJSON(UTF8CharInputStream input, LineColumnTracker lct) throws JsonParseException, IOException {
 		StringBuilder sb = new StringBuilder();
-		boolean had_number = false, need_number = false, has_comma = false;
+		boolean had_number = false, need_number = false, has_comma = false, has_exponent = false, exponent_start = false;
 		
 		String c = skipIgnorers(input, lct);
 		if(c==null){ throw new JsonParseUnfinishedException(new char[]{'0','1','2','3','4','5','6','7','8','9','-','+','.'}, lct); }
@@ -151,16 +229,21 @@ public class JsonNumber extends JSON<JsonNumber> {
 		
 		while((c = skipIgnorers(input, lct))!=null){
 			if(isNumber(c)){
-				had_number = true; need_number = false;
+				had_number = true; need_number = false; exponent_start = false;
 				sb.append(c);
 			} else if(c.equals(".")){
-				if(has_comma){
+				if(has_comma || has_exponent){
 					throw new JsonParseException(new char[]{'0','1','2','3','4','5','6','7','8','9'}, c, lct);
 				}
 				has_comma = true; need_number = true;
 				if(had_number){ sb.append('.'); } else { sb.append("0."); had_number = true; }
+			} else if((c.equals("e") || c.equals("E")) && !has_exponent && !need_number){
+				has_exponent = true; need_number = true; exponent_start = true;
+				sb.append(c);
 			} else if(c.equals("+") || c.equals("-")){
-				throw new JsonParseException(new char[]{'0','1','2','3','4','5','6','7','8','9'}, c, lct);
+				if(!exponent_start){ throw new JsonParseException(new char[]{'0','1','2','3','4','5','6','7','8','9'}, c, lct); }
+				exponent_start = false;
+				sb.append(c);
 			} else { 
 				input.insertReadAgainAtBeginning(c);
 				break;
@@ -169,8 +252,7 @@ public class JsonNumber extends JSON<JsonNumber> {
 		}
 		if(need_number){ throw new JsonParseUnfinishedException(new char[]{'0','1','2','3','4','5','6','7','8','9'}, lct); }
 		
-		this.value = sb.toString();
-		this.has_comma = has_comma;
+		setLexeme(sb.toString());
 		return this;
 	}
 	
@@ -179,6 +261,18 @@ public class JsonNumber extends JSON<JsonNumber> {
 				c.equals("4") || c.equals("5") || c.equals("6") || c.equals("7") || c.equals("8") || c.equals("9"));
 	}
 	
+	@Override
+	JsonNumber parseJSON(JsonByteParser parser) throws JsonParseException, IOException {
+		parser.readNumber(this);
+		return this;
+	}
+	
+	@Override
+	JsonNumber parseJSON(JsonCharParser parser) throws JsonParseException, IOException {
+		parser.readNumber(this);
+		return this;
+	}
+	
 	/** Tries to parse a given JSON string as a {@link JsonNumber}
 	 * @param json String that should be parsed
 	 * @return Parsed JSON number
@@ -200,6 +294,40 @@ public class JsonNumber extends JSON<JsonNumber> {
 		return new JsonNumber().parseJSON(json, offset);
 	}
 	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonNumber}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return Parsed JSON number
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonNumber parse(byte[] json) throws JsonParseException, NullPointerException {
+		return new JsonNumber().parseJSON(json);
+	}
+	
+	/** Tries to parse a given range of a byte array in UTF-8 as a {@link JsonNumber}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return Parsed JSON number
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JsonNumber parse(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return new JsonNumber().parseJSON(json, offset, length);
+	}
+	
+	/** Tries to parse a {@link JsonNumber} from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return Parsed JSON number
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JsonNumber parse(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		return new JsonNumber().parseJSON(reader);
+	}
+	
 	/** Tries to parse a {@link JsonNumber} from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
 	 * @return Parse JSON number
@@ -223,6 +351,19 @@ public class JsonNumber extends JSON<JsonNumber> {
 		return new JsonNumber().parseJSON(file);
 	}
 	
+	/**
+	 * Tries to parse a {@link JsonNumber} from a given {@link File}
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON number
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JsonNumber parse(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		return new JsonNumber().parseJSON(file, options);
+	}
+	
 	/**
 	 * Tries to parse a {@link JsonNumber} from a given {@link URL}
 	 * @param url URL the JSON data should be read from
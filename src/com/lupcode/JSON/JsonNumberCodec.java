@@ -0,0 +1,359 @@
+package com.lupcode.JSON;
+
+import java.math.BigInteger;
+
+/** Converts between decimal text and double values without going through
+ * {@link Double#parseDouble(String)} and {@link Double#toString(double)} in the common case.
+ * Parsing uses Clinger's exact fast path and the Eisel-Lemire algorithm and only
+ * falls back to {@link Double#parseDouble(String)} for ambiguous inputs.
+ * Formatting uses the Schubfach algorithm to produce the shortest text that
+ * reads back to the same double and writes it straight into a byte buffer
+ * in the same layout as {@link Double#toString(double)}.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonNumberCodec {
+
+	/** Maximum amount of bytes {@link #format(double, byte[], int)} writes */
+	static final int MAX_LENGTH = 32;
+
+	/** Maximum amount of significant digits that get accumulated into a long mantissa */
+	static final int MAX_DIGITS = 19;
+
+	private static final long[] POW10 = new long[19];
+	private static final double[] POW10_DOUBLE = new double[23];
+	static {
+		POW10[0] = 1;
+		for(int i=1; i<POW10.length; i++) POW10[i] = POW10[i-1]*10;
+		POW10_DOUBLE[0] = 1;
+		for(int i=1; i<POW10_DOUBLE.length; i++) POW10_DOUBLE[i] = POW10_DOUBLE[i-1]*10;
+	}
+
+	private JsonNumberCodec(){}
+
+
+	// ---------------------------------------- parsing ----------------------------------------
+
+	/**
+	 * Parses the given number text as a double
+	 * @param text Number with optional sign, fraction and exponent
+	 * @return Parsed value
+	 * @throws NumberFormatException if the text is not a number
+	 */
+	static double parseDouble(String text) throws NumberFormatException {
+		final int len = text.length();
+		int i = 0;
+		boolean negative = false;
+		if(i<len && (text.charAt(i)=='-' || text.charAt(i)=='+')) negative = text.charAt(i++)=='-';
+		long mantissa = 0;
+		int digits = 0, exp10 = 0, start = i;
+		boolean truncated = false, hasComma = false;
+		for(; i<len; i++){
+			char c = text.charAt(i);
+			if(c>='0' && c<='9'){
+				if(mantissa!=0 || c!='0'){
+					if(digits<MAX_DIGITS){
+						mantissa = mantissa*10 + (c-'0'); digits++;
+						if(hasComma) exp10--;
+					} else {
+						truncated = true;
+						if(!hasComma) exp10++;
+					}
+				} else if(hasComma) exp10--;
+			} else if(c=='.' && !hasComma){
+				hasComma = true;
+			} else break;
+		}
+		if(i==start || (hasComma && i==start+1)) throw new NumberFormatException("For input string: \""+text+"\"");
+		if(i<len){
+			char c = text.charAt(i);
+			if((c|0x20)!='e' || ++i>=len) throw new NumberFormatException("For input string: \""+text+"\"");
+			boolean expNegative = false;
+			if(text.charAt(i)=='-' || text.charAt(i)=='+') expNegative = text.charAt(i++)=='-';
+			if(i>=len) throw new NumberFormatException("For input string: \""+text+"\"");
+			int exp = 0;
+			for(; i<len; i++){
+				c = text.charAt(i);
+				if(c<'0' || c>'9') throw new NumberFormatException("For input string: \""+text+"\"");
+				if(exp<100000) exp = exp*10 + (c-'0');
+			}
+			exp10 += expNegative ? -exp : exp;
+		}
+		return toDouble(negative, mantissa, exp10, truncated, text);
+	}
+
+	/**
+	 * Converts an already scanned decimal number into a double
+	 * @param negative If the number has a leading minus
+	 * @param mantissa Up to {@link #MAX_DIGITS} significant digits of the number
+	 * @param exp10 Power of ten the mantissa has to be multiplied with
+	 * @param truncated True if there were more significant digits than kept in the mantissa
+	 * @param text Number as it has been written, only used if the value cannot be determined exactly
+	 * (may be null if not truncated)
+	 * @return Closest double to the given number
+	 */
+	static double toDouble(boolean negative, long mantissa, int exp10, boolean truncated, String text){
+		if(!truncated){
+			if(mantissa==0) return negative ? -0.0 : 0.0;
+			if(mantissa>=0 && mantissa<=(1L<<53) && exp10>=-22 && exp10<=22){
+				double d = mantissa; // exact, so a single rounding step follows
+				d = exp10<0 ? d / POW10_DOUBLE[-exp10] : d * POW10_DOUBLE[exp10];
+				return negative ? -d : d;
+			}
+			if(exp10 < -342){ return negative ? -0.0 : 0.0; } // even 10^19 * 10^-343 rounds to zero
+			if(exp10 > 308){ return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY; }
+			long bits = eiselLemire(mantissa, exp10);
+			if(bits>=0) return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+			if(text==null) text = (negative ? "-" : "") + Long.toUnsignedString(mantissa) + "E" + exp10;
+		}
+		return Double.parseDouble(text);
+	}
+
+	/**
+	 * Eisel-Lemire conversion of mantissa * 10^exp10 into the bits of the closest double
+	 * @param mantissa Non zero unsigned decimal mantissa
+	 * @param exp10 Power of ten inside of {@link Powers5#MIN_EXP} and {@link Powers5#MAX_EXP}
+	 * @return Bits of the positive double or -1 if the result cannot be determined safely
+	 */
+	private static long eiselLemire(long mantissa, int exp10){
+		final int clz = Long.numberOfLeadingZeros(mantissa);
+		final long man = mantissa << clz;
+		long retExp2 = ((217706L*exp10) >> 16) + 64 + 1023 - clz;
+		final int idx = (exp10 - Powers5.MIN_EXP) << 1;
+		final long powHi = Powers5.TABLE[idx], powLo = Powers5.TABLE[idx+1];
+
+		long xHi = unsignedMultiplyHigh(man, powHi), xLo = man * powHi;
+		if((xHi & 0x1FF)==0x1FF && Long.compareUnsigned(xLo + man, man) < 0){
+			long yHi = unsignedMultiplyHigh(man, powLo), yLo = man * powLo;
+			long mergedHi = xHi, mergedLo = xLo + yHi;
+			if(Long.compareUnsigned(mergedLo, xLo) < 0) mergedHi++;
+			if((mergedHi & 0x1FF)==0x1FF && mergedLo+1==0 && Long.compareUnsigned(yLo + man, man) < 0) return -1;
+			xHi = mergedHi; xLo = mergedLo;
+		}
+
+		final int msb = (int)(xHi >>> 63);
+		long retMantissa = xHi >>> (msb + 9);
+		retExp2 -= 1 ^ msb;
+		if(xLo==0 && (xHi & 0x1FF)==0 && (retMantissa & 3)==1) return -1; // exactly half way
+		retMantissa += retMantissa & 1;
+		retMantissa >>>= 1;
+		if((retMantissa >>> 53) > 0){ retMantissa >>>= 1; retExp2++; }
+		if(retExp2-1 < 0 || retExp2-1 >= 0x7FF-1) return -1; // subnormal or infinite
+		return (retExp2 << 52) | (retMantissa & 0x000FFFFFFFFFFFFFL);
+	}
+
+	private static long unsignedMultiplyHigh(long x, long y){
+		return multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+	}
+
+	/** Upper 64 bits of the signed 128-bit product, same as Math.multiplyHigh which needs Java 9 */
+	private static long multiplyHigh(long x, long y){
+		long x1 = x >> 32, x2 = x & 0xFFFFFFFFL;
+		long y1 = y >> 32, y2 = y & 0xFFFFFFFFL;
+		long t = x1 * y2 + ((x2 * y2) >>> 32);
+		long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+		return x1 * y1 + (t >> 32) + (z1 >> 32);
+	}
+
+	/** Truncated 128-bit mantissas of the powers of ten, computed on first use */
+	private static final class Powers5 {
+		static final int MIN_EXP = -342, MAX_EXP = 308;
+		static final long[] TABLE = new long[(MAX_EXP-MIN_EXP+1)<<1];
+		static {
+			for(int e=MIN_EXP; e<=MAX_EXP; e++){
+				BigInteger m;
+				if(e>=0){
+					BigInteger p = BigInteger.TEN.pow(e);
+					int shift = p.bitLength() - 128;
+					m = shift>0 ? p.shiftRight(shift) : p.shiftLeft(-shift);
+				} else {
+					BigInteger p = BigInteger.TEN.pow(-e);
+					m = BigInteger.ONE.shiftLeft(127 + p.bitLength()).divide(p);
+				}
+				int idx = (e-MIN_EXP)<<1;
+				TABLE[idx] = m.shiftRight(64).longValue();
+				TABLE[idx+1] = m.longValue();
+			}
+		}
+	}
+
+
+	// ---------------------------------------- formatting ----------------------------------------
+
+	private static final int P = 53, Q_MIN = -1074, K_MIN = -324;
+	private static final long C_MIN = 1L << (P-1), C_TINY = 3, MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+
+	/**
+	 * Returns the shortest text that reads back to the given double
+	 * @param value Value that should be formatted
+	 * @return Same layout as {@link Double#toString(double)}
+	 */
+	static String toString(double value){
+		byte[] buf = new byte[MAX_LENGTH];
+		int len = format(value, buf, 0);
+		char[] chars = new char[len];
+		for(int i=0; i<len; i++) chars[i] = (char)buf[i];
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the shortest text that reads back to the given double as ASCII into the buffer.
+	 * Values from 10^-3 (inclusive) to 10^7 (exclusive) are written as plain decimals,
+	 * all others in exponent notation, same as {@link Double#toString(double)}
+	 * @param value Value that should be formatted
+	 * @param buf Buffer with at least {@link #MAX_LENGTH} bytes of room after the position
+	 * @param pos Index where the first byte gets written
+	 * @return Index after the last written byte
+	 */
+	static int format(double value, byte[] buf, int pos){
+		final long bits = Double.doubleToRawLongBits(value);
+		final long t = bits & 0x000FFFFFFFFFFFFFL;
+		final int bq = (int)(bits >>> 52) & 0x7FF;
+		if(bq==0x7FF) return ascii(t!=0 ? "NaN" : bits<0 ? "-Infinity" : "Infinity", buf, pos);
+		if(bits<0) buf[pos++] = '-';
+		if(bq!=0){
+			final int mq = -Q_MIN + 1 - bq;
+			final long c = C_MIN | t;
+			if(0<mq && mq<P){ // integers below 2^53 need no conversion
+				long f = c >> mq;
+				if(f<<mq == c) return digits(f, 0, buf, pos);
+			}
+			return schubfach(-mq, c, 0, buf, pos);
+		}
+		if(t!=0) return t<C_TINY ? schubfach(Q_MIN, 10*t, -1, buf, pos) : schubfach(Q_MIN, t, 0, buf, pos);
+		return ascii("0.0", buf, pos);
+	}
+
+	/**
+	 * Schubfach conversion of c * 2^q into the shortest decimal inside of the rounding interval
+	 * @param q Binary exponent
+	 * @param c Binary significand
+	 * @param dk Correction of the decimal exponent if c has been scaled by ten
+	 * @param buf Buffer the decimal gets written to
+	 * @param pos Index where the first byte gets written
+	 * @return Index after the last written byte
+	 */
+	private static int schubfach(int q, long c, int dk, byte[] buf, int pos){
+		final int out = (int)c & 1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if(c!=C_MIN | q==Q_MIN){
+			cbl = cb - 2;
+			k = (int)((q * 661971961083L) >> 41);
+		} else {
+			cbl = cb - 1;
+			k = (int)((q * 661971961083L - 274743187321L) >> 41);
+		}
+		final int h = q + (int)((-k * 913124641741L) >> 38) + 2;
+		final int idx = (k - K_MIN) << 1;
+		final long g1 = Powers10.TABLE[idx], g0 = Powers10.TABLE[idx+1];
+
+		final long vb = rop(g1, g0, cb << h);
+		final long vbl = rop(g1, g0, cbl << h);
+		final long vbr = rop(g1, g0, cbr << h);
+
+		final long s = vb >> 2;
+		if(s>=100){
+			long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if(upin!=wpin) return digits(upin ? sp10 : tp10, k, buf, pos);
+		}
+		final long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if(uin!=win) return digits(uin ? s : t, k + dk, buf, pos);
+		long cmp = vb - ((s + t) << 1);
+		return digits(cmp<0 || cmp==0 && (s & 1)==0 ? s : t, k + dk, buf, pos);
+	}
+
+	private static long rop(long g1, long g0, long cp){
+		long x1 = multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+	}
+
+	/**
+	 * Writes the positive decimal f * 10^e
+	 * @param f Decimal significand
+	 * @param e Decimal exponent
+	 * @param buf Buffer the decimal gets written to
+	 * @param pos Index where the first byte gets written
+	 * @return Index after the last written byte
+	 */
+	private static int digits(long f, int e, byte[] buf, int pos){
+		while(f%10==0){ f /= 10; e++; }
+		int n = 1;
+		while(n<POW10.length && f>=POW10[n]) n++;
+		final int exp = n + e - 1; // exponent of the first digit
+		if(exp>=0 && exp<7){
+			if(n<=exp+1){
+				pos = fixed(f, n, buf, pos);
+				for(int i=n; i<=exp; i++) buf[pos++] = '0';
+				buf[pos++] = '.'; buf[pos++] = '0';
+			} else {
+				long div = POW10[n-exp-1];
+				pos = fixed(f / div, exp+1, buf, pos);
+				buf[pos++] = '.';
+				pos = fixed(f % div, n-exp-1, buf, pos);
+			}
+			return pos;
+		}
+		if(exp<0 && exp>=-3){
+			buf[pos++] = '0'; buf[pos++] = '.';
+			for(int i=-1; i>exp; i--) buf[pos++] = '0';
+			return fixed(f, n, buf, pos);
+		}
+		long div = POW10[n-1];
+		buf[pos++] = (byte)('0' + f/div);
+		buf[pos++] = '.';
+		if(n>1){ pos = fixed(f % div, n-1, buf, pos); } else { buf[pos++] = '0'; }
+		buf[pos++] = 'E';
+		int x = exp;
+		if(x<0){ buf[pos++] = '-'; x = -x; }
+		if(x>=100){ buf[pos++] = (byte)('0' + x/100); x %= 100; buf[pos++] = (byte)('0' + x/10); }
+		else if(x>=10) buf[pos++] = (byte)('0' + x/10);
+		buf[pos++] = (byte)('0' + x%10);
+		return pos;
+	}
+
+	/** Writes exactly n decimal digits of v including leading zeros */
+	private static int fixed(long v, int n, byte[] buf, int pos){
+		for(int i=pos+n-1; i>=pos; i--){ buf[i] = (byte)('0' + v%10); v /= 10; }
+		return pos + n;
+	}
+
+	private static int ascii(String str, byte[] buf, int pos){
+		for(int i=0; i<str.length(); i++) buf[pos++] = (byte)str.charAt(i);
+		return pos;
+	}
+
+	/** 126-bit approximations g of 10^-k with 2^125 &lt;= g-1 &lt; 2^126, split into 63-bit halves */
+	private static final class Powers10 {
+		static final int K_MAX = 292;
+		static final long[] TABLE = new long[(K_MAX-K_MIN+1)<<1];
+		static {
+			for(int k=K_MIN; k<=K_MAX; k++){
+				BigInteger g;
+				if(k<=0){
+					BigInteger p = BigInteger.TEN.pow(-k);
+					int shift = p.bitLength() - 126;
+					g = shift>0 ? p.shiftRight(shift) : p.shiftLeft(-shift);
+				} else {
+					BigInteger p = BigInteger.TEN.pow(k);
+					g = BigInteger.ONE.shiftLeft(125 + p.bitLength()).divide(p);
+				}
+				g = g.add(BigInteger.ONE);
+				int idx = (k-K_MIN)<<1;
+				TABLE[idx] = g.shiftRight(63).longValue();
+				TABLE[idx+1] = g.longValue() & MASK_63;
+			}
+		}
+	}
+}
@@ -0,0 +1,464 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/** Entries of a {@link JsonArray} that only contains integers or only contains
+ * floating point numbers, stored in a primitive long[] or double[] array.
+ * Only numbers that are written in their shortest form are stored, so writing
+ * the array produces the same text as the individual {@link JsonNumber}s.
+ * {@link #get(int)} hands out an {@link Element} that reads and writes the stored value,
+ * reading the list therefore does not change it. Numbers that are added or set by the caller
+ * are kept as they are, so the list refers to the same instances a generic list would.
+ * Values that are no numbers cannot be added.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonNumberList extends AbstractList<JSON<?>> implements RandomAccess {
+
+	private final boolean floating;
+	private long[] longs;
+	private double[] doubles;
+	private JsonNumber[] instances = null; // numbers that replace the stored value at their position, null until the first one is set
+	private int size;
+
+	private JsonNumberList(long[] longs, double[] doubles, int size){
+		this.floating = doubles!=null;
+		this.longs = longs;
+		this.doubles = doubles;
+		this.size = size;
+	}
+
+	/**
+	 * Creates a list of integers
+	 * @param values Integers the list takes ownership of
+	 * @return List of integers
+	 */
+	static JsonNumberList ofLongs(long[] values){
+		return new JsonNumberList(values, null, values.length);
+	}
+
+	/**
+	 * Creates a list of floating point numbers
+	 * @param values Numbers the list takes ownership of
+	 * @return List of floating point numbers
+	 */
+	static JsonNumberList ofDoubles(double[] values){
+		return new JsonNumberList(null, values, values.length);
+	}
+
+	/**
+	 * Checks if the given value can be stored in this list
+	 * @param value Value that should be checked
+	 * @return True if the value is a number
+	 */
+	boolean accepts(JSON<?> value){
+		return value instanceof JsonNumber;
+	}
+
+	/**
+	 * Returns if the numbers are stored as doubles
+	 * @return True for floating point numbers, false for integers
+	 */
+	boolean isFloating(){
+		return floating;
+	}
+
+	@Override
+	public int size(){
+		return size;
+	}
+
+	@Override
+	public JSON<?> get(int index){
+		checkIndex(index, size);
+		JsonNumber number = instance(index);
+		return number!=null ? number : new Element(this, index);
+	}
+
+	/**
+	 * Returns the number at the given position as a {@link JsonNumber} that is not bound to the list
+	 * @param index Position of the number
+	 * @return Number that has been set at this position or a new number holding the stored value
+	 */
+	JsonNumber number(int index){
+		checkIndex(index, size);
+		JsonNumber number = instance(index);
+		if(number!=null) return number;
+		return floating ? new JsonNumber(doubles[index]) : new JsonNumber(longs[index]);
+	}
+
+	private JsonNumber instance(int index){
+		return instances!=null ? instances[index] : null;
+	}
+
+	/**
+	 * Returns the number at the given position without creating a {@link JsonNumber}
+	 * @param index Position of the number
+	 * @return Number as double
+	 */
+	double getDouble(int index){
+		checkIndex(index, size);
+		JsonNumber number = instance(index);
+		if(number!=null) return number.getAsDouble();
+		return floating ? doubles[index] : longs[index];
+	}
+
+	/**
+	 * Returns the integer at the given position without creating a {@link JsonNumber}
+	 * @param index Position of the number
+	 * @return Number as long
+	 * @throws NumberFormatException if the number is not an integer that fits into a long
+	 */
+	long getLong(int index) throws NumberFormatException {
+		checkIndex(index, size);
+		JsonNumber number = instance(index);
+		if(number!=null) return number.getAsLong();
+		if(floating){ throw new NumberFormatException("For input string: \""+JsonNumberCodec.toString(doubles[index])+"\""); }
+		return longs[index];
+	}
+
+	/**
+	 * Copies all numbers into a new array
+	 * @return Numbers as doubles
+	 */
+	double[] toDoubleArray(){
+		if(floating && instances==null) return Arrays.copyOf(doubles, size);
+		double[] arr = new double[size];
+		for(int i=0; i<size; i++) arr[i] = getDouble(i);
+		return arr;
+	}
+
+	/**
+	 * Copies all integers into a new array
+	 * @return Numbers as longs
+	 * @throws NumberFormatException if a number is not an integer that fits into a long
+	 */
+	long[] toLongArray() throws NumberFormatException {
+		if(!floating && instances==null) return Arrays.copyOf(longs, size);
+		long[] arr = new long[size];
+		for(int i=0; i<size; i++) arr[i] = getLong(i);
+		return arr;
+	}
+
+	/**
+	 * Writes the number at the given position
+	 * @param writer Writer the number should be written to
+	 * @param index Position of the number
+	 * @throws IOException if writing to the underlying {@link java.io.OutputStream} fails
+	 */
+	void write(JsonWriter writer, int index) throws IOException {
+		JsonNumber number = instance(index);
+		if(number!=null) number.toJSON(writer, false, 0);
+		else if(floating) writer.write(doubles[index]); else writer.write(longs[index]);
+	}
+
+	/**
+	 * Stores the value of a number at the given position if it can be stored without the instance
+	 * @param index Position of the number
+	 * @param number Number holding the value, it does not get referenced by the list
+	 * @return True if the value has been stored, false if the number is not of the same kind in its shortest form
+	 */
+	private boolean setValue(int index, JsonNumber number){
+		if(floating ? !number.isPlainDouble() : !number.isPlainLong()) return false;
+		if(floating) doubles[index] = number.getAsDouble(); else longs[index] = number.getAsLong();
+		if(instances!=null) instances[index] = null;
+		return true;
+	}
+
+	/**
+	 * Checks that the value is a number and detaches it from the list it is a view of,
+	 * so instances stored in a list never read through another list
+	 * @param element Value that should be stored
+	 * @return Value as number
+	 */
+	private JsonNumber toInstance(JSON<?> element){
+		if(!accepts(element)){ throw new UnsupportedOperationException("Array only accepts numbers"); }
+		if(element instanceof Element) ((Element)element).detach();
+		return (JsonNumber)element;
+	}
+
+	private void setInstance(int index, JsonNumber number){
+		if(instances==null) instances = new JsonNumber[floating ? doubles.length : longs.length];
+		instances[index] = number;
+	}
+
+	@Override
+	public int indexOf(Object o){
+		for(int i=0; i<size; i++)
+			if(isAt(i, o)) return i;
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o){
+		for(int i=size-1; i>=0; i--)
+			if(isAt(i, o)) return i;
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object o){
+		return indexOf(o)>=0;
+	}
+
+	@Override
+	public boolean remove(Object o){
+		int i = indexOf(o);
+		if(i<0) return false;
+		remove(i);
+		return true;
+	}
+
+	/** Entries are compared like in a generic list, so only the instance that is stored
+	 * at a position or a view of the position is found there */
+	private boolean isAt(int index, Object o){
+		JsonNumber number = instance(index);
+		if(number!=null) return number.equals(o);
+		return o instanceof Element && ((Element)o).isViewOf(this, index);
+	}
+
+	@Override
+	public JSON<?> set(int index, JSON<?> element){
+		JsonNumber number = toInstance(element);
+		JsonNumber old = number(index);
+		setInstance(index, number);
+		return old;
+	}
+
+	@Override
+	public void add(int index, JSON<?> element){
+		checkIndex(index, size+1);
+		JsonNumber number = toInstance(element); // detached before positions get shifted
+		int length = floating ? doubles.length : longs.length;
+		if(size==length){
+			length = Math.max(4, length + (length>>1));
+			if(floating) doubles = Arrays.copyOf(doubles, length); else longs = Arrays.copyOf(longs, length);
+			if(instances!=null) instances = Arrays.copyOf(instances, length);
+		}
+		Object arr = floating ? doubles : longs;
+		System.arraycopy(arr, index, arr, index+1, size-index);
+		if(instances!=null) System.arraycopy(instances, index, instances, index+1, size-index);
+		size++;
+		setInstance(index, number);
+		modCount++;
+	}
+
+	@Override
+	public JSON<?> remove(int index){
+		JsonNumber old = number(index);
+		Object arr = floating ? doubles : longs;
+		System.arraycopy(arr, index+1, arr, index, size-index-1);
+		if(instances!=null){
+			System.arraycopy(instances, index+1, instances, index, size-index-1);
+			instances[size-1] = null;
+		}
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public void clear(){
+		size = 0;
+		instances = null;
+		modCount++;
+	}
+
+	private static void checkIndex(int index, int size){
+		if(index<0 || index>=size) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+	}
+
+
+	/** Number that reads and writes the value stored at a position of a {@link JsonNumberList}.
+	 * Views are created on every access, two views of the same position are equal.
+	 * Like the views of {@link List#subList(int, int)} they address a position, so after entries
+	 * have been inserted or removed in front of it they refer to the entry that moved there.
+	 * If a value gets set that cannot be stored in the list, or the view gets stored in
+	 * another list, the view detaches: it keeps its value itself and is stored as instance at its position
+	 */
+	static final class Element extends JsonNumber {
+
+		private final JsonNumberList list;
+		private final int index;
+		private boolean detached = false;
+
+		private Element(JsonNumberList list, int index){
+			this.list = list;
+			this.index = index;
+		}
+
+		/**
+		 * Returns if this is a view of the given position that has not been detached
+		 * @param list List the position belongs to
+		 * @param index Position in the list
+		 * @return True if this is a view of the position
+		 */
+		boolean isViewOf(JsonNumberList list, int index){
+			return !detached && this.list==list && this.index==index;
+		}
+
+		/** Takes over the current value and replaces the position in the list by this instance */
+		void detach(){
+			if(detached) return;
+			copyValue(list.number(index));
+			detached = true;
+			list.setInstance(index, this);
+		}
+
+		private JsonNumber store(JsonNumber number){
+			if(detached || !list.setValue(index, number)){
+				detach();
+				copyValue(number);
+			}
+			return this;
+		}
+
+		@Override
+		public boolean hasComma(){
+			return detached ? super.hasComma() : list.number(index).hasComma();
+		}
+
+		@Override
+		public String getValue(){
+			return detached ? super.getValue() : list.number(index).getValue();
+		}
+
+		@Override
+		public JsonNumber setValue(double value){
+			return store(new JsonNumber(value));
+		}
+
+		@Override
+		public JsonNumber setValue(float value){
+			return store(new JsonNumber(value));
+		}
+
+		@Override
+		public JsonNumber setValue(long value){
+			return store(new JsonNumber(value));
+		}
+
+		@Override
+		void setLexeme(String lexeme){
+			JsonNumber number = new JsonNumber();
+			number.setLexeme(lexeme);
+			store(number);
+		}
+
+		@Override
+		void setDecimal(String lexeme, double value){
+			JsonNumber number = new JsonNumber();
+			number.setDecimal(lexeme, value);
+			store(number);
+		}
+
+		@Override
+		boolean isPlainLong(){
+			return detached ? super.isPlainLong() : list.number(index).isPlainLong();
+		}
+
+		@Override
+		boolean isPlainDouble(){
+			return detached ? super.isPlainDouble() : list.number(index).isPlainDouble();
+		}
+
+		@Override
+		public double getAsDouble(){
+			return detached ? super.getAsDouble() : list.getDouble(index);
+		}
+
+		@Override
+		public int getAsInt() throws NumberFormatException {
+			return detached ? super.getAsInt() : list.number(index).getAsInt();
+		}
+
+		@Override
+		public long getAsLong() throws NumberFormatException {
+			return detached ? super.getAsLong() : list.getLong(index);
+		}
+
+		@Override
+		public short getAsShort() throws NumberFormatException {
+			return detached ? super.getAsShort() : list.number(index).getAsShort();
+		}
+
+		@Override
+		public byte getAsByte() throws NumberFormatException {
+			return detached ? super.getAsByte() : list.number(index).getAsByte();
+		}
+
+		@Override
+		void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
+			if(detached) super.toJSON(writer, prettyPrint, depth); else list.number(index).toJSON(writer, prettyPrint, depth);
+		}
+
+		@Override
+		public boolean equals(Object obj){
+			return obj==this || (obj instanceof Element && ((Element)obj).isViewOf(list, index) && !detached);
+		}
+
+		@Override
+		public int hashCode(){
+			return System.identityHashCode(list)*31 + index;
+		}
+	}
+
+
+	/** Collects the numbers of an array that is being parsed as long as they can be stored in a list.
+	 * Each parser reuses one builder, which works for nested arrays because entries only get
+	 * parsed as values once the numbers of the surrounding array have been converted with {@link #toList()}
+	 */
+	static final class Builder {
+
+		private long[] numbers = new long[16]; // integers or doubles as bits
+		private boolean floating;
+		private int count = 0;
+
+		/** Starts collecting the numbers of a new array */
+		void reset(){
+			count = 0;
+		}
+
+		/**
+		 * Adds a number if it is of the same kind as the previous ones and in its shortest form
+		 * @param number Parsed number that can be reused afterwards
+		 * @return True if the number has been added, otherwise the numbers have to be converted with {@link #toList()}
+		 */
+		boolean add(JsonNumber number){
+			if(count==0) floating = number.isPlainDouble();
+			if(floating ? !number.isPlainDouble() : !number.isPlainLong()) return false;
+			if(count==numbers.length) numbers = Arrays.copyOf(numbers, count<<1);
+			numbers[count++] = floating ? Double.doubleToRawLongBits(number.getAsDouble()) : number.getAsLong();
+			return true;
+		}
+
+		/**
+		 * Converts the numbers added so far into {@link JsonNumber}s
+		 * @return List containing the numbers that further entries can be added to
+		 */
+		ArrayList<JSON<?>> toList(){
+			ArrayList<JSON<?>> list = new ArrayList<>(Math.max(10, count+1));
+			for(int i=0; i<count; i++)
+				list.add(floating ? new JsonNumber(Double.longBitsToDouble(numbers[i])) : new JsonNumber(numbers[i]));
+			count = 0;
+			return list;
+		}
+
+		/**
+		 * Creates the list of all added numbers
+		 * @return List of numbers or an empty list if no number has been added
+		 */
+		List<JSON<?>> build(){
+			if(count==0) return new ArrayList<>();
+			if(!floating) return ofLongs(Arrays.copyOf(numbers, count));
+			double[] arr = new double[count];
+			for(int i=0; i<count; i++) arr[i] = Double.longBitsToDouble(numbers[i]);
+			return ofDoubles(arr);
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package com.lupcode.JSON;
+
+/** Validates a number character by character for {@link JsonByteParser} and {@link JsonCharParser}
+ * and accumulates its digits and exponent on the way, so the value can be stored
+ * in a {@link JsonNumber} without parsing the text again.
+ * The parsers only take care of reading the characters and of copying the text if it is needed.
+ * Each parser has its own scanner which gets reset by {@link #start(int)}
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonNumberScanner {
+
+	/** Result of {@link #start(int)} and {@link #next(int)} if the character belongs to the number */
+	static final int NEXT = 0;
+
+	/** Result of {@link #start(int)} and {@link #next(int)} if the character belongs to the number
+	 * but a '0' has to be inserted in front of it, because it is a dot without leading digit */
+	static final int ZERO = 1;
+
+	/** Result of {@link #next(int)} if the character does not belong to the number anymore */
+	static final int END = 2;
+
+	/** Result of {@link #start(int)} and {@link #next(int)} if the character is not allowed at this position */
+	static final int INVALID = 3;
+
+	private boolean hadNumber, needNumber, hasComma;
+	private boolean negative, shortest, truncated;
+	private boolean hasExponent, exponentStart, negativeExponent;
+	private long digits;
+	private int count, exp10, exponent;
+	private byte[] formatted = null; // shortest form of the last double with many digits
+
+	/**
+	 * Starts a new number
+	 * @param c First character
+	 * @return {@link #NEXT}, {@link #ZERO} or {@link #INVALID}
+	 */
+	int start(int c){
+		hadNumber = false; needNumber = false; hasComma = false;
+		negative = false; shortest = true; truncated = false;
+		hasExponent = false; exponentStart = false; negativeExponent = false;
+		digits = 0; count = 0; exp10 = 0; exponent = 0;
+		if(c=='+' || c=='-'){
+			needNumber = true;
+			negative = c=='-';
+			shortest = negative; // a leading '+' is not the shortest form
+			return NEXT;
+		}
+		if(c=='.'){
+			hadNumber = true; needNumber = true; hasComma = true;
+			return ZERO;
+		}
+		if(c>='0' && c<='9'){
+			hadNumber = true;
+			digits = c-'0'; count = c=='0' ? 0 : 1;
+			return NEXT;
+		}
+		return INVALID;
+	}
+
+	/**
+	 * Continues the number
+	 * @param c Next character
+	 * @return {@link #NEXT}, {@link #ZERO}, {@link #END} or {@link #INVALID}
+	 */
+	int next(int c){
+		if(c>='0' && c<='9' && digits!=0 && !hasExponent && count<JsonNumberCodec.MAX_DIGITS){
+			needNumber = false;
+			digits = digits*10 + (c-'0'); count++;
+			if(hasComma) exp10--;
+			return NEXT;
+		}
+		return nextOther(c);
+	}
+
+	/**
+	 * Continues the number with any other character than a significant digit.
+	 * Kept apart from {@link #next(int)} so the common path is small enough to get inlined
+	 * @param c Next character
+	 * @return {@link #NEXT}, {@link #ZERO}, {@link #END} or {@link #INVALID}
+	 */
+	private int nextOther(int c){
+		if(c>='0' && c<='9'){
+			if(!hasComma && !hasExponent && hadNumber && digits==0) shortest = false; // leading zero
+			hadNumber = true; needNumber = false;
+			if(hasExponent){
+				exponentStart = false;
+				if(exponent<100000) exponent = exponent*10 + (c-'0');
+			} else if(digits!=0 || c!='0'){
+				if(count<JsonNumberCodec.MAX_DIGITS){
+					digits = digits*10 + (c-'0'); count++;
+					if(hasComma) exp10--;
+				} else {
+					truncated = true;
+					if(!hasComma) exp10++;
+				}
+			} else if(hasComma) exp10--;
+			return NEXT;
+		}
+		if(c=='.'){
+			if(hasComma || hasExponent) return INVALID;
+			hasComma = true; needNumber = true;
+			if(hadNumber) return NEXT;
+			hadNumber = true;
+			return ZERO;
+		}
+		if((c=='e' || c=='E') && !hasExponent && !needNumber){
+			hasExponent = true; needNumber = true; exponentStart = true;
+			return NEXT;
+		}
+		if(c=='+' || c=='-'){
+			if(!exponentStart) return INVALID;
+			exponentStart = false; negativeExponent = c=='-';
+			return NEXT;
+		}
+		return END;
+	}
+
+	/**
+	 * Returns if the number is still missing digits, e.g. after a sign, dot or exponent
+	 * @return True if the number is not complete
+	 */
+	boolean isUnfinished(){
+		return needNumber;
+	}
+
+	/**
+	 * Stores the value in the given number if no text is needed to write it exactly like it has been read.
+	 * This is the case for integers in their shortest form that fit into a long
+	 * and for short numbers with fraction that are written like the shortest form of their double
+	 * @param number Number the value should be stored in
+	 * @return True if the value has been stored
+	 */
+	boolean storeValue(JsonNumber number){
+		if(!hasComma && !hasExponent && shortest && count<=18 && !(negative && digits==0)){
+			number.setValue(negative ? -digits : digits);
+			return true;
+		}
+		if(hasComma && !hasExponent && shortest && count<=15 && (digits==0 ? exp10==-1
+				: (digits%10!=0 || exp10==-1) && count+exp10>=-2 && count+exp10<=7)){
+			// written like the shortest form of its double (no trailing zeros, plain notation
+			// between 10^-3 and 10^7) and exactly convertible, so no text is needed
+			number.setValue(JsonNumberCodec.toDouble(negative, digits, exp10, false, null));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Stores the value in the given number if it is a long or exponent form that still matches
+	 * the shortest form of its double, must be called after {@link #storeValue(JsonNumber)} failed
+	 * @param number Number the value should be stored in
+	 * @param buf Bytes containing the text of the number without any inserted characters
+	 * @param from Index of the first byte of the number
+	 * @param to Index after the last byte of the number
+	 * @return True if the value has been stored
+	 */
+	boolean storeShortest(JsonNumber number, byte[] buf, int from, int to){
+		int length = formatShortest();
+		if(length!=to-from) return false;
+		for(int i=0; i<length; i++)
+			if(buf[from+i]!=formatted[i]) return false;
+		number.setValue(JsonNumberCodec.toDouble(negative, digits, exponent10(), false, null));
+		return true;
+	}
+
+	/**
+	 * Stores the value in the given number if it is a long or exponent form that still matches
+	 * the shortest form of its double, must be called after {@link #storeValue(JsonNumber)} failed
+	 * @param number Number the value should be stored in
+	 * @param seq Characters containing the text of the number without any inserted characters
+	 * @param from Index of the first character of the number
+	 * @param to Index after the last character of the number
+	 * @return True if the value has been stored
+	 */
+	boolean storeShortest(JsonNumber number, CharSequence seq, int from, int to){
+		int length = formatShortest();
+		if(length!=to-from) return false;
+		for(int i=0; i<length; i++)
+			if(seq.charAt(from+i)!=formatted[i]) return false;
+		number.setValue(JsonNumberCodec.toDouble(negative, digits, exponent10(), false, null));
+		return true;
+	}
+
+	/**
+	 * Stores the value and the text in the given number if it has a fraction or exponent
+	 * @param number Number the value should be stored in
+	 * @param text Number as it has been written
+	 * @return True if the value has been stored, false for integers that only need the text
+	 */
+	boolean storeDecimal(JsonNumber number, String text){
+		if(!hasComma && !hasExponent) return false;
+		number.setDecimal(text, JsonNumberCodec.toDouble(negative, digits, exponent10(), truncated, text));
+		return true;
+	}
+
+	/**
+	 * Formats the double into {@link #formatted} if the text could be its shortest form
+	 * @return Length of the formatted double or -1 if the text cannot be the shortest form
+	 */
+	private int formatShortest(){
+		if(!hasComma || !shortest || truncated || (count<=15 && !hasExponent)) return -1;
+		if(formatted==null) formatted = new byte[JsonNumberCodec.MAX_LENGTH];
+		return JsonNumberCodec.format(JsonNumberCodec.toDouble(negative, digits, exponent10(), false, null), formatted, 0);
+	}
+
+	private int exponent10(){
+		return hasExponent ? exp10 + (negativeExponent ? -exponent : exponent) : exp10;
+	}
+}
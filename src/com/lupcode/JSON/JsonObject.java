@@ -3,12 +3,9 @@ package com.lupcode.JSON;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Map.Entry;
 
 import com.lupcode.JSON.exceptions.JsonParseException;
@@ -24,7 +21,8 @@ import java.util.Set;
  */
 public class JsonObject extends JSON<JsonObject> {
 	
-	private Map<String, JSON<?>> values = new LinkedHashMap<>();
+	private JsonMap values = new JsonMap();
+	private volatile JsonByteParser.Span lazy; // cleared after values has been set
 	
 	public JsonObject(){
 		
@@ -41,28 +39,28 @@ public class JsonObject extends JSON<JsonObject> {
 	}
 	
 	public int size(){
-		return values.size();
+		return values().size();
 	}
 	
 	public JsonObject clear(){
-		values.clear();
+		values().clear();
 		return this;
 	}
 	
 	public boolean has(String key){
-		return key!=null && values.containsKey(key);
+		return key!=null && values().containsKey(key);
 	}
 	
 	public boolean containsKey(String key){
-		return key!=null && values.containsKey(key);
+		return key!=null && values().containsKey(key);
 	}
 	
 	public boolean containsValue(JSON<?> object){
-		return values.containsValue(object);
+		return values().containsValue(object);
 	}
 	
 	public JSON<?> get(String key){
-		return key!=null ? values.get(key) : null;
+		return key!=null ? values().get(key) : null;
 	}
 	
 	public JsonArray getAsArray(String key) throws ClassCastException {
@@ -132,7 +130,7 @@ public class JsonObject extends JSON<JsonObject> {
 	
 	public JsonObject put(String key, JSON<?> object){
 		if(key==null){ throw new NullPointerException("Key cannot be null"); }
-		values.put(key, object!=null ? object : new JsonNull());
+		values().put(key, object!=null ? object : new JsonNull());
 		return this;
 	}
 	
@@ -177,61 +175,92 @@ public class JsonObject extends JSON<JsonObject> {
 	}
 	
 	public JSON<?> remove(String key){
-		return key!=null ? values.remove(key) : null;
+		return key!=null ? values().remove(key) : null;
 	}
 	
 	public Set<String> listKeys(){
-		return values.keySet();
+		return values().keySet();
 	}
 	
 	public Collection<JSON<?>> listValues(){
-		return values.values();
+		return values().values();
 	}
 	
 	public Set<Entry<String, JSON<?>>> entrySet(){
-		return values.entrySet();
+		return values().entrySet();
 	}
 	
 	public JsonArray keysAsJsonArray(){
-		return new JsonArray(values.keySet());
+		return new JsonArray(values().keySet());
 	}
 
 	public JsonArray toJsonArray(){
-		return new JsonArray(values.values());
+		return new JsonArray(values().values());
+	}
+
+	/** Returns the key of the member at the given position without creating an entry
+	 * @param i Position of the member in insertion order
+	 * @return Key of the member
+	 */
+	String keyAt(int i){
+		return values().keyAt(i);
+	}
+
+	/** Returns the value of the member at the given position without creating an entry
+	 * @param i Position of the member in insertion order
+	 * @return Value of the member
+	 */
+	JSON<?> valueAt(int i){
+		return values().valueAt(i);
+	}
+
+	/** Marks this object to be parsed from the given byte range on first access
+	 * @param span Byte range of the object
+	 * @return This instance
+	 */
+	JsonObject lazy(JsonByteParser.Span span){
+		this.values = null;
+		this.lazy = span;
+		return this;
 	}
 	
-	@Override
-	protected void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException {
-		output.write("{".getBytes(StandardCharsets.UTF_8));
-		if(!values.isEmpty()){
-			if(prettyPrint){
-				boolean notFirst = false;
-				String ws = whitespace + SPACER;
-				byte[] wsArr = ws.getBytes(StandardCharsets.UTF_8);
-				for(Entry<String, JSON<?>> entry : values.entrySet()){
-					if(notFirst) output.write(",".getBytes(StandardCharsets.UTF_8)); else notFirst = true;
-					output.write(LINE_BREAKER.getBytes());
-					output.write(wsArr);
-					output.write("\"".getBytes(StandardCharsets.UTF_8));
-					output.write(entry.getKey().getBytes(StandardCharsets.UTF_8));
-					output.write("\": ".getBytes(StandardCharsets.UTF_8));
-					
-					(entry.getValue()!=null ? entry.getValue() : new JsonNull()).toJSON(output, prettyPrint, ws);
-				}
-				output.write(LINE_BREAKER.getBytes());
-				output.write(whitespace.getBytes(StandardCharsets.UTF_8));
-			} else {
-				boolean notFirst = false;
-				for(Entry<String, JSON<?>> entry : values.entrySet()){
-					if(notFirst) output.write(",".getBytes(StandardCharsets.UTF_8)); else notFirst = true;
-					output.write("\"".getBytes(StandardCharsets.UTF_8));
-					output.write(entry.getKey().getBytes(StandardCharsets.UTF_8));
-					output.write("\": ".getBytes(StandardCharsets.UTF_8));
-					(entry.getValue()!=null ? entry.getValue() : new JsonNull()).toJSON(output, prettyPrint, whitespace);
+	/** Returns the values and parses them first if this object has been parsed lazily
+	 * @return Values of this object
+	 * @throws JsonParseException if the byte range could not be parsed correctly
+	 */
+	private JsonMap values() throws JsonParseException {
+		final JsonByteParser.Span span = lazy;
+		if(span!=null){
+			synchronized(span){ // parsed once even if several threads read it for the first time
+				if(lazy!=null){
+					values = span.readObject();
+					lazy = null;
 				}
 			}
 		}
-		output.write("}".getBytes(StandardCharsets.UTF_8));
+		return values;
+	}
+	
+	@Override
+	void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
+		final JsonByteParser.Span span = lazy;
+		if(span!=null && !prettyPrint && span.isCanonical()){ span.writeTo(writer); return; }
+		writer.write('{');
+		final JsonMap values = values();
+		final int size = values.size();
+		if(size>0){
+			for(int i=0; i<size; i++){
+				if(i>0) writer.write(',');
+				if(prettyPrint) writer.newLine(depth+1);
+				writer.write('"');
+				writer.write(values.keyAt(i));
+				writer.write(JsonWriter.KEY_SEPARATOR);
+				JSON<?> value = values.valueAt(i);
+				if(value!=null) value.toJSON(writer, prettyPrint, depth+1); else writer.write(JsonWriter.NULL);
+			}
+			if(prettyPrint) writer.newLine(depth);
+		}
+		writer.write('}');
 	}
 	
 
@@ -244,12 +273,12 @@ public class JsonObject extends JSON<JsonObject> {
 		
 		c = skipIgnorers(input, lct);
 		if(c==null){ throw new JsonParseUnfinishedException(lct); }
-		if(c.equals("}")){ lct.increaseColumn(); this.values.clear(); return this; }
+		if(c.equals("}")){ lct.increaseColumn(); this.values().clear(); return this; }
 		
 		input.insertReadAgainAtBeginning(c); // to parse JsonString next
 		
 		boolean nextEntry = false;
-		Map<String, JSON<?>> map = new LinkedHashMap<>();
+		JsonMap map = new JsonMap();
 		do {
 			if(nextEntry) lct.increaseColumn(); // increment for ',' 
 			
@@ -275,7 +304,19 @@ public class JsonObject extends JSON<JsonObject> {
 		if(!c.equals("}")){ throw new JsonParseException('}', c, lct); }
 		lct.increaseColumn();
 		
-		this.values = map;
+		this.values = map; if(lazy!=null) lazy = null;
+		return this;
+	}
+	
+	@Override
+	JsonObject parseJSON(JsonByteParser parser) throws JsonParseException, IOException {
+		this.values = parser.readObject(); if(lazy!=null) lazy = null;
+		return this;
+	}
+	
+	@Override
+	JsonObject parseJSON(JsonCharParser parser) throws JsonParseException, IOException {
+		this.values = parser.readObject(); if(lazy!=null) lazy = null;
 		return this;
 	}
 	
@@ -300,6 +341,51 @@ public class JsonObject extends JSON<JsonObject> {
 		return new JsonObject().parseJSON(json, offset);
 	}
 	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonObject}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return Parsed JSON object
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonObject parse(byte[] json) throws JsonParseException, NullPointerException {
+		return new JsonObject().parseJSON(json);
+	}
+	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonObject}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON object
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonObject parse(byte[] json, JsonParseOptions options) throws JsonParseException, NullPointerException {
+		return new JsonObject().parseJSON(json, options);
+	}
+	
+	/** Tries to parse a given range of a byte array in UTF-8 as a {@link JsonObject}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return Parsed JSON object
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JsonObject parse(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return new JsonObject().parseJSON(json, offset, length);
+	}
+	
+	/** Tries to parse a {@link JsonObject} from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return Parsed JSON object
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JsonObject parse(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		return new JsonObject().parseJSON(reader);
+	}
+	
 	/** Tries to parse a {@link JsonObject} from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
 	 * @return Parse JSON object
@@ -323,6 +409,19 @@ public class JsonObject extends JSON<JsonObject> {
 		return new JsonObject().parseJSON(file);
 	}
 	
+	/**
+	 * Tries to parse a {@link JsonObject} from a given {@link File}
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON object
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JsonObject parse(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		return new JsonObject().parseJSON(file, options);
+	}
+	
 	/**
 	 * Tries to parse a {@link JsonObject} from a given {@link URL}
 	 * @param url URL the JSON data should be read from
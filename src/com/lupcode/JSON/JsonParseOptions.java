@@ -0,0 +1,222 @@
+package com.lupcode.JSON;
+
+import java.util.concurrent.ForkJoinPool;
+
+/** Options that change how JSON data gets parsed.
+ * All setters return this instance so options can be chained:
+ * <pre>
+ * JsonObject obj = JsonObject.parse(file, new JsonParseOptions().setMemoryMapped(true));
+ * </pre>
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonParseOptions {
+
+	/** Amount of keys the {@link JsonKeyCache} of a parse call holds by default */
+	public static final int DEFAULT_KEY_CACHE_SIZE = 256;
+
+	private boolean memoryMapped = false;
+	private boolean lazy = false;
+	private int keyCacheSize = DEFAULT_KEY_CACHE_SIZE;
+	private JsonKeyCache keyCache = null;
+	private boolean parallel = false;
+	private ForkJoinPool pool = null;
+	private JsonProjection projection = null;
+
+	public JsonParseOptions(){
+
+	}
+
+	/**
+	 * Returns if files get mapped into memory instead of being read with a {@link java.io.FileInputStream}
+	 * @return True if files get memory mapped
+	 */
+	public boolean isMemoryMapped(){
+		return memoryMapped;
+	}
+
+	/**
+	 * Sets if files should be mapped into memory with {@link java.nio.channels.FileChannel#map}
+	 * instead of being read with a {@link java.io.FileInputStream}.
+	 * Recommended for large files because the operating system loads the pages
+	 * without copying them through read calls (default false)
+	 * @param memoryMapped True if files should be memory mapped
+	 * @return This instance
+	 */
+	public JsonParseOptions setMemoryMapped(boolean memoryMapped){
+		this.memoryMapped = memoryMapped; return this;
+	}
+
+	/**
+	 * Returns if nested objects and arrays only get parsed on first access
+	 * @return True if lazy parsing is enabled
+	 */
+	public boolean isLazy(){
+		return lazy;
+	}
+
+	/**
+	 * Sets if nested objects and arrays should only get parsed on first access.
+	 * Parsing only records their byte range and skips them, untouched ones get written
+	 * by copying their original bytes if pretty printing is disabled.
+	 * Parsed byte arrays must not be modified afterwards and syntax errors inside of nested
+	 * objects and arrays are only detected on access. Several threads may read a lazily parsed
+	 * value at the same time, each range gets parsed once, but like any other value it must not
+	 * be modified while it is read. All data is kept in memory, so {@link java.io.InputStream}s get read completely first (default false)
+	 * @param lazy True if nested objects and arrays should be parsed on first access
+	 * @return This instance
+	 */
+	public JsonParseOptions setLazy(boolean lazy){
+		this.lazy = lazy; return this;
+	}
+
+	/**
+	 * Returns if large arrays at the root get parsed in parallel
+	 * @return True if parallel parsing is enabled
+	 */
+	public boolean isParallel(){
+		return parallel;
+	}
+
+	/**
+	 * Sets if a large array at the root should be parsed in parallel.
+	 * A fast pass first finds the boundaries of the entries, then slices of
+	 * entries get parsed by tasks of the {@link ForkJoinPool} and are combined in order.
+	 * Error positions are the same as without parallel parsing.
+	 * All data is kept in memory, so {@link java.io.InputStream}s get read completely first (default false)
+	 * @param parallel True if large arrays at the root should be parsed in parallel
+	 * @return This instance
+	 */
+	public JsonParseOptions setParallel(boolean parallel){
+		this.parallel = parallel; return this;
+	}
+
+	/**
+	 * Returns the pool that parses arrays in parallel
+	 * @return Pool or null if the {@link ForkJoinPool#commonPool()} is used
+	 */
+	public ForkJoinPool getPool(){
+		return pool;
+	}
+
+	/**
+	 * Sets the pool that should parse arrays in parallel if {@link #setParallel(boolean)} is enabled (default null)
+	 * @param pool Pool or null if the {@link ForkJoinPool#commonPool()} should be used
+	 * @return This instance
+	 */
+	public JsonParseOptions setPool(ForkJoinPool pool){
+		this.pool = pool; return this;
+	}
+
+	/**
+	 * Returns the fields that get built while parsing
+	 * @return Projection or null if all fields get built
+	 */
+	public JsonProjection getProjection(){
+		return projection;
+	}
+
+	/**
+	 * Sets the fields that should be built while parsing. All other values get skipped
+	 * by only counting brackets outside of strings, so no nodes or strings are created for them
+	 * and syntax errors inside of them are not detected. Arrays are not parsed in parallel
+	 * if a projection is set. Character based parse calls ignore the projection (default null)
+	 * @param projection Fields that should be built or null if all fields should be built
+	 * @return This instance
+	 */
+	public JsonParseOptions setProjection(JsonProjection projection){
+		this.projection = projection; return this;
+	}
+
+	/**
+	 * Returns how many object keys the cache of each parse call holds
+	 * @return Amount of cached keys (0 if caching is disabled)
+	 */
+	public int getKeyCacheSize(){
+		return keyCacheSize;
+	}
+
+	/**
+	 * Sets how many object keys the cache of each parse call should hold.
+	 * Repeated keys are then taken from the cache instead of being decoded again,
+	 * so all parsed objects share the same key instances.
+	 * Ignored if a cache has been set with {@link #setKeyCache(JsonKeyCache)}
+	 * (default {@link #DEFAULT_KEY_CACHE_SIZE})
+	 * @param keyCacheSize Amount of keys that should be cached or 0 to disable caching
+	 * @return This instance
+	 * @throws IllegalArgumentException if size is negative
+	 */
+	public JsonParseOptions setKeyCacheSize(int keyCacheSize) throws IllegalArgumentException {
+		if(keyCacheSize<0){ throw new IllegalArgumentException("Key cache size cannot be negative"); }
+		this.keyCacheSize = keyCacheSize; return this;
+	}
+
+	/**
+	 * Returns the key cache that is shared by all parse calls using these options
+	 * @return Shared key cache or null if each parse call creates its own
+	 */
+	public JsonKeyCache getKeyCache(){
+		return keyCache;
+	}
+
+	/**
+	 * Sets a key cache that should be used by all parse calls with these options
+	 * instead of creating one per call. Keeps cached keys between calls and
+	 * allows to read the hit rate afterwards. Options with a cache must not be
+	 * used by parse calls that run at the same time (default null)
+	 * @param keyCache Shared key cache or null if each parse call should create its own
+	 * @return This instance
+	 */
+	public JsonParseOptions setKeyCache(JsonKeyCache keyCache){
+		this.keyCache = keyCache; return this;
+	}
+
+	/**
+	 * Returns the key cache a parse call should use
+	 * @param options Options of the parse call (null for default options)
+	 * @return Key cache or null if caching is disabled
+	 */
+	static JsonKeyCache keyCache(JsonParseOptions options){
+		if(options==null) return new JsonKeyCache(DEFAULT_KEY_CACHE_SIZE);
+		if(options.keyCache!=null) return options.keyCache;
+		return options.keyCacheSize>0 ? new JsonKeyCache(options.keyCacheSize) : null;
+	}
+
+	/**
+	 * Returns a key cache for a parse task that runs at the same time as other tasks
+	 * with the same options. A shared cache is not thread safe, so a new one of the same size gets created
+	 * @param options Options of the parse call (null for default options)
+	 * @return Key cache or null if caching is disabled
+	 */
+	static JsonKeyCache concurrentKeyCache(JsonParseOptions options){
+		if(options!=null && options.keyCache!=null) return new JsonKeyCache(options.keyCache.getCapacity());
+		return keyCache(options);
+	}
+
+	/**
+	 * Returns if the options require the whole data to be in memory before parsing
+	 * @param options Options of the parse call (null for default options)
+	 * @return True if {@link java.io.InputStream}s need to be read completely first
+	 */
+	static boolean inMemory(JsonParseOptions options){
+		return options!=null && (options.lazy || options.parallel);
+	}
+
+	/**
+	 * Returns the pool a parse call should use for parallel parsing
+	 * @param options Options of the parse call (null for default options)
+	 * @return Configured pool or the {@link ForkJoinPool#commonPool()}
+	 */
+	static ForkJoinPool pool(JsonParseOptions options){
+		return options!=null && options.pool!=null ? options.pool : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Returns the projection a parse call should start with
+	 * @param options Options of the parse call (null for default options)
+	 * @return Projection or null if everything should be built
+	 */
+	static JsonProjection projection(JsonParseOptions options){
+		return options!=null && options.projection!=null && !options.projection.isAll() ? options.projection : null;
+	}
+}
@@ -0,0 +1,763 @@
+package com.lupcode.JSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** Compiled JSONPath expression that selects values of a JSON tree.
+ * An expression gets compiled once into a chain of steps, so evaluating it against many
+ * trees does not interpret the expression again. Instances are immutable and can be shared
+ * between threads. Evaluating only reads the tree: arrays of numbers keep their primitive storage
+ * and lazily parsed values get parsed once, so several threads may query the same tree
+ * as long as it is not modified at the same time.
+ * {@link #compile(String)} keeps the most recently used expressions in a cache.
+ * Supported syntax:
+ * <ul>
+ * <li><code>$</code> root and <code>@</code> current value inside of filters</li>
+ * <li><code>.name</code>, <code>['name']</code>, <code>["name"]</code> and unions like <code>['a','b']</code></li>
+ * <li><code>[0]</code>, <code>[-1]</code> (from the end) and unions like <code>[0,2]</code></li>
+ * <li><code>[start:end:step]</code> slices where every part is optional and may be negative</li>
+ * <li><code>.*</code> and <code>[*]</code> wildcards for all members or elements</li>
+ * <li><code>..</code> recursive descent, e.g. <code>$..id</code> or <code>$..[0]</code></li>
+ * <li><code>[?(@.price &lt; 10 &amp;&amp; @.tags)]</code> filters with the comparisons
+ * <code>== != &lt; &lt;= &gt; &gt;=</code>, existence checks, <code>! &amp;&amp; ||</code> and parentheses.
+ * Operands are relative paths or string, number, true, false and null literals</li>
+ * </ul>
+ * <pre>
+ * JsonPath path = JsonPath.compile("$.a.b[*].c");
+ * for(JSON&lt;?&gt; value : path.select(obj)) ...
+ * </pre>
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public final class JsonPath {
+
+	/** Maximum amount of expressions that are kept by {@link #compile(String)} */
+	public static final int CACHE_SIZE = 512;
+
+	/** Compiled expressions in the order they have been used, the least recently used one gets removed first */
+	private static final Map<String, JsonPath> CACHE = new LinkedHashMap<String, JsonPath>(64, 0.75f, true){
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, JsonPath> eldest){
+			return size()>CACHE_SIZE;
+		}
+	};
+
+	private final String expression;
+	private final Step[] steps;
+	private final boolean definite;
+
+	private JsonPath(String expression, Step[] steps){
+		this.expression = expression;
+		this.steps = steps;
+		boolean definite = true;
+		for(Step step : steps) definite &= step.isDefinite();
+		this.definite = definite;
+	}
+
+	/**
+	 * Compiles the given expression or returns the cached result of a previous call
+	 * @param expression JSONPath expression starting with '$'
+	 * @return Compiled path
+	 * @throws IllegalArgumentException if the expression is not valid
+	 * @throws NullPointerException if expression is null
+	 */
+	public static JsonPath compile(String expression) throws IllegalArgumentException, NullPointerException {
+		if(expression==null){ throw new NullPointerException("Expression cannot be null"); }
+		JsonPath path;
+		synchronized (CACHE) {
+			path = CACHE.get(expression);
+		}
+		if(path==null){
+			path = new Compiler(expression).compile();
+			synchronized (CACHE) {
+				CACHE.put(expression, path);
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Returns the expression this path has been compiled from
+	 * @return JSONPath expression
+	 */
+	public String getExpression(){
+		return expression;
+	}
+
+	/**
+	 * Returns if the path selects at most one value because it only consists of names and single indices
+	 * @return True if the path is definite
+	 */
+	public boolean isDefinite(){
+		return definite;
+	}
+
+	/**
+	 * Selects all matching values in document order
+	 * @param root Value the path is evaluated against
+	 * @return List of matching values (empty if nothing matches)
+	 */
+	public List<JSON<?>> select(JSON<?> root){
+		final List<JSON<?>> result = new ArrayList<>();
+		if(root!=null) select(root, 0, new Sink() {
+			@Override public boolean accept(JSON<?> value){ return result.add(value); }
+		});
+		return result;
+	}
+
+	/**
+	 * Returns the first matching value and stops evaluating afterwards
+	 * @param root Value the path is evaluated against
+	 * @return First matching value or null if nothing matches
+	 */
+	public JSON<?> first(JSON<?> root){
+		if(definite){
+			for(int i=0; i<steps.length && root!=null; i++) root = steps[i].child(root);
+			return root;
+		}
+		if(root==null) return null;
+		final JSON<?>[] result = new JSON<?>[1];
+		select(root, 0, new Sink() {
+			@Override public boolean accept(JSON<?> value){ result[0] = value; return false; }
+		});
+		return result[0];
+	}
+
+	/**
+	 * Checks if at least one value matches
+	 * @param root Value the path is evaluated against
+	 * @return True if a value matches
+	 */
+	public boolean exists(JSON<?> root){
+		return first(root)!=null;
+	}
+
+	/**
+	 * Passes all matching values in document order to the given action without collecting them
+	 * @param root Value the path is evaluated against
+	 * @param action Action that gets called for every matching value
+	 * @throws NullPointerException if action is null
+	 */
+	public void forEach(JSON<?> root, final Consumer<? super JSON<?>> action) throws NullPointerException {
+		if(action==null){ throw new NullPointerException("Action cannot be null"); }
+		if(root!=null) select(root, 0, new Sink() {
+			@Override public boolean accept(JSON<?> value){ action.accept(value); return true; }
+		});
+	}
+
+	@Override
+	public String toString(){
+		return expression;
+	}
+
+	/**
+	 * Applies the steps beginning at the given one to a value
+	 * @param node Value the step gets applied to
+	 * @param step Index of the step
+	 * @param sink Receiver of the values that pass all steps
+	 * @return False if the sink does not accept any further values
+	 */
+	private boolean select(JSON<?> node, int step, Sink sink){
+		return step==steps.length ? sink.accept(node) : steps[step].select(this, node, step, sink);
+	}
+
+
+	/** Receiver of the selected values */
+	private interface Sink {
+
+		/**
+		 * Receives a selected value
+		 * @param value Selected value
+		 * @return False if no further values should be selected
+		 */
+		boolean accept(JSON<?> value);
+	}
+
+	/** Part of a path that selects values relative to a given value */
+	private static abstract class Step {
+
+		/**
+		 * Selects the values of this step and passes each of them to the next step
+		 * @param path Path this step belongs to
+		 * @param node Value the step gets applied to
+		 * @param step Index of this step in the path
+		 * @param sink Receiver of the values that pass all steps
+		 * @return False if the sink does not accept any further values
+		 */
+		abstract boolean select(JsonPath path, JSON<?> node, int step, Sink sink);
+
+		/**
+		 * Returns if this step selects at most one value
+		 * @return True if {@link #child(JSON)} can be used
+		 */
+		boolean isDefinite(){
+			return false;
+		}
+
+		/**
+		 * Returns the only value selected by a definite step
+		 * @param node Value the step gets applied to
+		 * @return Selected value or null if nothing or, because the step is not definite, more than one value could be selected
+		 */
+		JSON<?> child(JSON<?> node){
+			return null;
+		}
+
+		/**
+		 * Passes the given value to the next step if it exists
+		 * @param path Path this step belongs to
+		 * @param value Value that has been selected
+		 * @param step Index of this step in the path
+		 * @param sink Receiver of the values that pass all steps
+		 * @return False if the sink does not accept any further values
+		 */
+		static boolean next(JsonPath path, JSON<?> value, int step, Sink sink){
+			return value==null || path.select(value, step+1, sink);
+		}
+
+		/**
+		 * Returns the element of an array at the given index
+		 * @param node Value that may be an array
+		 * @param index Index that counts from the end if negative
+		 * @return Element or null if node is not an array or the index is out of bounds
+		 */
+		static JSON<?> element(JSON<?> node, int index){
+			if(!(node instanceof JsonArray)) return null;
+			final JsonArray array = (JsonArray)node;
+			if(index<0) index += array.size();
+			return index>=0 && index<array.size() ? array.get(index) : null;
+		}
+	}
+
+	/** Selects the members with one of the given names */
+	private static final class Names extends Step {
+
+		private final String[] names;
+
+		Names(String[] names){
+			this.names = names;
+		}
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			if(!(node instanceof JsonObject)) return true;
+			for(String name : names)
+				if(!next(path, ((JsonObject)node).get(name), step, sink)) return false;
+			return true;
+		}
+
+		@Override
+		boolean isDefinite(){
+			return names.length==1;
+		}
+
+		@Override
+		JSON<?> child(JSON<?> node){
+			return node instanceof JsonObject ? ((JsonObject)node).get(names[0]) : null;
+		}
+	}
+
+	/** Selects the elements at the given indices */
+	private static final class Indices extends Step {
+
+		private final int[] indices;
+
+		Indices(int[] indices){
+			this.indices = indices;
+		}
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			for(int index : indices)
+				if(!next(path, element(node, index), step, sink)) return false;
+			return true;
+		}
+
+		@Override
+		boolean isDefinite(){
+			return indices.length==1;
+		}
+
+		@Override
+		JSON<?> child(JSON<?> node){
+			return element(node, indices[0]);
+		}
+	}
+
+	/** Selects the elements of a range of indices like Python slices */
+	private static final class Slice extends Step {
+
+		/** Marks a missing start or end */
+		static final int NONE = Integer.MIN_VALUE;
+
+		private final int start, end, increment;
+
+		Slice(int start, int end, int increment){
+			this.start = start;
+			this.end = end;
+			this.increment = increment;
+		}
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			if(!(node instanceof JsonArray)) return true;
+			final JsonArray array = (JsonArray)node;
+			final int size = array.size();
+			if(increment>0){
+				final int to = bound(end, size, 0, size, size);
+				for(long i=bound(start, size, 0, size, 0); i<to; i+=increment) // long so large steps cannot overflow
+					if(!next(path, array.get((int)i), step, sink)) return false;
+			} else {
+				final int to = bound(end, size, -1, size-1, -1);
+				for(long i=bound(start, size, -1, size-1, size-1); i>to; i+=increment)
+					if(!next(path, array.get((int)i), step, sink)) return false;
+			}
+			return true;
+		}
+
+		private static int bound(int index, int size, int min, int max, int missing){
+			if(index==NONE) return missing;
+			if(index<0) index += size;
+			return index<min ? min : index>max ? max : index;
+		}
+	}
+
+	/** Selects all members of an object or all elements of an array */
+	private static final class Wildcard extends Step {
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			if(node instanceof JsonObject){
+				final JsonObject obj = (JsonObject)node;
+				for(int i=0; i<obj.size(); i++)
+					if(!next(path, obj.valueAt(i), step, sink)) return false;
+			} else if(node instanceof JsonArray){
+				final JsonArray array = (JsonArray)node;
+				for(int i=0; i<array.size(); i++)
+					if(!next(path, array.get(i), step, sink)) return false;
+			}
+			return true;
+		}
+	}
+
+	/** Applies a step to a value and to all values nested inside of it */
+	private static final class Descendants extends Step {
+
+		private final Step selector;
+
+		Descendants(Step selector){
+			this.selector = selector;
+		}
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			if(!selector.select(path, node, step, sink)) return false;
+			if(node instanceof JsonObject){
+				final JsonObject obj = (JsonObject)node;
+				for(int i=0; i<obj.size(); i++){
+					final JSON<?> value = obj.valueAt(i);
+					if(value!=null && !select(path, value, step, sink)) return false;
+				}
+			} else if(node instanceof JsonArray){
+				final JsonArray array = (JsonArray)node;
+				for(int i=0; i<array.size(); i++){
+					final JSON<?> value = array.get(i);
+					if(value!=null && !select(path, value, step, sink)) return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/** Selects the members or elements for which a filter holds */
+	private static final class Filtered extends Step {
+
+		private final Filter filter;
+
+		Filtered(Filter filter){
+			this.filter = filter;
+		}
+
+		@Override
+		boolean select(JsonPath path, JSON<?> node, int step, Sink sink){
+			if(node instanceof JsonObject){
+				final JsonObject obj = (JsonObject)node;
+				for(int i=0; i<obj.size(); i++){
+					final JSON<?> value = obj.valueAt(i);
+					if(value!=null && filter.test(value) && !next(path, value, step, sink)) return false;
+				}
+			} else if(node instanceof JsonArray){
+				final JsonArray array = (JsonArray)node;
+				for(int i=0; i<array.size(); i++){
+					final JSON<?> value = array.get(i);
+					if(value!=null && filter.test(value) && !next(path, value, step, sink)) return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
+	/** Condition of a filter step */
+	private static abstract class Filter {
+
+		/**
+		 * Evaluates the condition
+		 * @param current Value that '@' refers to
+		 * @return True if the condition holds
+		 */
+		abstract boolean test(JSON<?> current);
+	}
+
+	private static final class Not extends Filter {
+
+		private final Filter filter;
+
+		Not(Filter filter){
+			this.filter = filter;
+		}
+
+		@Override
+		boolean test(JSON<?> current){
+			return !filter.test(current);
+		}
+	}
+
+	private static final class And extends Filter {
+
+		private final Filter left, right;
+
+		And(Filter left, Filter right){
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean test(JSON<?> current){
+			return left.test(current) && right.test(current);
+		}
+	}
+
+	private static final class Or extends Filter {
+
+		private final Filter left, right;
+
+		Or(Filter left, Filter right){
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean test(JSON<?> current){
+			return left.test(current) || right.test(current);
+		}
+	}
+
+	/** Holds if an operand has a value, so a relative path matches or a literal is neither null nor false */
+	private static final class Exists extends Filter {
+
+		private final Operand operand;
+
+		Exists(Operand operand){
+			this.operand = operand;
+		}
+
+		@Override
+		boolean test(JSON<?> current){
+			final JSON<?> value = operand.value(current);
+			return operand.path!=null ? value!=null : value instanceof JsonBoolean ? ((JsonBoolean)value).getValue() : !(value instanceof JsonNull);
+		}
+	}
+
+	/** Compares the values of two operands. Values of different types are never equal and
+	 * only numbers and strings can be ordered. Comparisons with a missing value never hold
+	 */
+	private static final class Comparison extends Filter {
+
+		static final int EQUAL = 0, NOT_EQUAL = 1, LESS = 2, LESS_EQUAL = 3, GREATER = 4, GREATER_EQUAL = 5;
+
+		private final Operand left, right;
+		private final int operator;
+
+		Comparison(Operand left, int operator, Operand right){
+			this.left = left;
+			this.operator = operator;
+			this.right = right;
+		}
+
+		@Override
+		boolean test(JSON<?> current){
+			final JSON<?> a = left.value(current), b = right.value(current);
+			if(a==null || b==null) return false;
+			final int cmp;
+			if(a instanceof JsonNumber && b instanceof JsonNumber){
+				cmp = Double.compare(((JsonNumber)a).getAsDouble(), ((JsonNumber)b).getAsDouble());
+			} else if(a instanceof JsonString && b instanceof JsonString){
+				final String x = ((JsonString)a).getValue(), y = ((JsonString)b).getValue();
+				cmp = x==null || y==null ? (x==y ? 0 : x==null ? -1 : 1) : x.compareTo(y);
+			} else if(operator==EQUAL || operator==NOT_EQUAL){
+				boolean equal = a.getClass()==b.getClass() && (!(a instanceof JsonBoolean)
+						|| ((JsonBoolean)a).getValue()==((JsonBoolean)b).getValue());
+				return equal==(operator==EQUAL);
+			} else return false;
+			switch (operator) {
+				case EQUAL: return cmp==0;
+				case NOT_EQUAL: return cmp!=0;
+				case LESS: return cmp<0;
+				case LESS_EQUAL: return cmp<=0;
+				case GREATER: return cmp>0;
+				default: return cmp>=0;
+			}
+		}
+	}
+
+	/** Relative path or literal inside of a filter */
+	private static final class Operand {
+
+		final JsonPath path;
+		private final JSON<?> literal;
+
+		Operand(JsonPath path, JSON<?> literal){
+			this.path = path;
+			this.literal = literal;
+		}
+
+		/**
+		 * Returns the value of this operand
+		 * @param current Value that '@' refers to
+		 * @return First value of the relative path, the literal or null if the path does not match
+		 */
+		JSON<?> value(JSON<?> current){
+			return path!=null ? path.first(current) : literal;
+		}
+	}
+
+
+	/** Recursive descent parser that turns an expression into steps */
+	private static final class Compiler {
+
+		private final String expr;
+		private int pos = 0;
+
+		Compiler(String expr){
+			this.expr = expr;
+		}
+
+		JsonPath compile() throws IllegalArgumentException {
+			skipSpaces();
+			expect('$');
+			JsonPath path = steps(0);
+			skipSpaces();
+			if(pos<expr.length()) throw error("end of expression");
+			return path;
+		}
+
+		/**
+		 * Reads the steps following '$' or '@'
+		 * @param from Index of the '$' or '@'
+		 * @return Path consisting of the read steps
+		 */
+		private JsonPath steps(int from){
+			List<Step> steps = new ArrayList<>();
+			while(pos<expr.length()){
+				final char c = expr.charAt(pos);
+				if(c=='.'){
+					pos++;
+					if(pos<expr.length() && expr.charAt(pos)=='.'){
+						pos++;
+						Step selector = pos<expr.length() && expr.charAt(pos)=='[' ? bracket() : dotted();
+						steps.add(new Descendants(selector));
+					} else steps.add(dotted());
+				} else if(c=='['){
+					steps.add(bracket());
+				} else break;
+			}
+			return new JsonPath(expr.substring(from, pos), steps.toArray(new Step[steps.size()]));
+		}
+
+		/** Reads a name or '*' following a dot */
+		private Step dotted(){
+			if(pos<expr.length() && expr.charAt(pos)=='*'){ pos++; return new Wildcard(); }
+			final int start = pos;
+			while(pos<expr.length()){
+				final char c = expr.charAt(pos);
+				if(!Character.isLetterOrDigit(c) && c!='_' && c!='-' && c!='$' && c<0x80) break;
+				pos++;
+			}
+			if(start==pos) throw error("member name or '*'");
+			return new Names(new String[]{ expr.substring(start, pos) });
+		}
+
+		/** Reads a step in brackets */
+		private Step bracket(){
+			expect('[');
+			skipSpaces();
+			final Step step;
+			final char c = peek();
+			if(c=='*'){
+				pos++;
+				step = new Wildcard();
+			} else if(c=='?'){
+				pos++;
+				step = new Filtered(or());
+			} else if(c=='\'' || c=='"'){
+				List<String> names = new ArrayList<>();
+				do {
+					skipSpaces();
+					names.add(string());
+					skipSpaces();
+				} while(consume(','));
+				step = new Names(names.toArray(new String[names.size()]));
+			} else {
+				step = indices();
+			}
+			skipSpaces();
+			expect(']');
+			return step;
+		}
+
+		/** Reads indices separated by ',' or a slice */
+		private Step indices(){
+			final int first = peek()==':' ? Slice.NONE : integer();
+			skipSpaces();
+			if(consume(':')){
+				skipSpaces();
+				final int end = peek()==':' || peek()==']' ? Slice.NONE : integer();
+				skipSpaces();
+				int increment = 1;
+				if(consume(':')){
+					skipSpaces();
+					if(peek()!=']'){
+						final int at = pos;
+						increment = integer();
+						if(increment==0){ pos = at; throw error("step other than 0"); }
+					}
+				}
+				return new Slice(first, end, increment);
+			}
+			int[] indices = { first };
+			while(consume(',')){
+				skipSpaces();
+				indices = Arrays.copyOf(indices, indices.length+1);
+				indices[indices.length-1] = integer();
+				skipSpaces();
+			}
+			return new Indices(indices);
+		}
+
+		private Filter or(){
+			Filter filter = and();
+			while(consumeOperator("||")) filter = new Or(filter, and());
+			return filter;
+		}
+
+		private Filter and(){
+			Filter filter = unary();
+			while(consumeOperator("&&")) filter = new And(filter, unary());
+			return filter;
+		}
+
+		private Filter unary(){
+			skipSpaces();
+			if(peek()=='!' && !expr.startsWith("!=", pos)){
+				pos++;
+				return new Not(unary());
+			}
+			if(consume('(')){
+				Filter filter = or();
+				skipSpaces();
+				expect(')');
+				return filter;
+			}
+			final Operand left = operand();
+			skipSpaces();
+			final int operator;
+			if(consumeOperator("==")) operator = Comparison.EQUAL;
+			else if(consumeOperator("!=")) operator = Comparison.NOT_EQUAL;
+			else if(consumeOperator("<=")) operator = Comparison.LESS_EQUAL;
+			else if(consumeOperator(">=")) operator = Comparison.GREATER_EQUAL;
+			else if(consumeOperator("<")) operator = Comparison.LESS;
+			else if(consumeOperator(">")) operator = Comparison.GREATER;
+			else return new Exists(left);
+			return new Comparison(left, operator, operand());
+		}
+
+		private Operand operand(){
+			skipSpaces();
+			final char c = peek();
+			if(c=='@'){
+				final int from = pos++;
+				return new Operand(steps(from), null);
+			}
+			if(c=='\'' || c=='"') return new Operand(null, new JsonString(string()));
+			if(c=='-' || (c>='0' && c<='9')){
+				final int start = pos;
+				while(pos<expr.length() && "+-.eE0123456789".indexOf(expr.charAt(pos))>=0) pos++;
+				try {
+					return new Operand(null, new JsonNumber(Double.parseDouble(expr.substring(start, pos))));
+				} catch (NumberFormatException ex){ pos = start; throw error("number"); }
+			}
+			if(expr.startsWith("true", pos)){ pos += 4; return new Operand(null, new JsonBoolean(true)); }
+			if(expr.startsWith("false", pos)){ pos += 5; return new Operand(null, new JsonBoolean(false)); }
+			if(expr.startsWith("null", pos)){ pos += 4; return new Operand(null, new JsonNull()); }
+			throw error("'@', string, number, true, false or null");
+		}
+
+		/** Reads a quoted string with '\' escaping the next character */
+		private String string(){
+			final char quote = peek();
+			if(quote!='\'' && quote!='"') throw error("string");
+			StringBuilder sb = new StringBuilder();
+			for(pos++; pos<expr.length(); pos++){
+				char c = expr.charAt(pos);
+				if(c==quote){ pos++; return sb.toString(); }
+				if(c=='\\' && pos+1<expr.length()) c = expr.charAt(++pos);
+				sb.append(c);
+			}
+			throw error(String.valueOf(quote));
+		}
+
+		private int integer(){
+			final int start = pos;
+			if(peek()=='-') pos++;
+			while(pos<expr.length() && expr.charAt(pos)>='0' && expr.charAt(pos)<='9') pos++;
+			try {
+				return Integer.parseInt(expr.substring(start, pos));
+			} catch (NumberFormatException ex){ pos = start; throw error("integer"); }
+		}
+
+		private boolean consumeOperator(String operator){
+			skipSpaces();
+			if(!expr.startsWith(operator, pos)) return false;
+			pos += operator.length();
+			return true;
+		}
+
+		private boolean consume(char c){
+			if(peek()!=c) return false;
+			pos++;
+			return true;
+		}
+
+		private void expect(char c){
+			if(!consume(c)) throw error("'"+c+"'");
+		}
+
+		private char peek(){
+			return pos<expr.length() ? expr.charAt(pos) : 0;
+		}
+
+		private void skipSpaces(){
+			while(pos<expr.length() && expr.charAt(pos)==' ') pos++;
+		}
+
+		private IllegalArgumentException error(String expected){
+			return new IllegalArgumentException("Expected "+expected+" at index "+pos+" of JSON path \""+expr+"\"");
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package com.lupcode.JSON;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/** Immutable tree of the fields that should be built while parsing, all other values
+ * get skipped at the byte level without creating any nodes. Can be set with
+ * {@link JsonParseOptions#setProjection(JsonProjection)} and shared between threads.
+ * A projection is described by JSON Pointers (RFC 6901) where the segment <code>*</code>
+ * matches every member of an object or every entry of an array, e.g.
+ * <pre>
+ * JsonProjection.of("/user/id", "/tenant", "/items/&#42;/sku")
+ * </pre>
+ * or by a mask object whose members are either nested masks or true, e.g.
+ * <code>{"user":{"id":true},"tenant":true,"items":{"*":{"sku":true}}}</code>.
+ * Objects and arrays on the way to a selected field are kept even if they end up empty,
+ * other values are only kept if they are selected as a whole.
+ * Entries of arrays that are not selected get removed, so the remaining entries move forward
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public final class JsonProjection {
+
+	/** Segment that matches every member or entry */
+	public static final String WILDCARD = "*";
+
+	private static final JsonProjection ALL = new JsonProjection(null, null, false);
+
+	private final Map<String, JsonProjection> members; // null if the whole value is selected
+	private final JsonProjection any; // projection of members that are not listed or null
+	private final boolean indices; // if a listed member is an array index
+
+	private JsonProjection(Map<String, JsonProjection> members, JsonProjection any, boolean indices){
+		this.members = members;
+		this.any = any;
+		this.indices = indices;
+	}
+
+	/**
+	 * Creates a projection that selects the values at the given JSON Pointers
+	 * @param pointers JSON Pointers like "/a/b", where "*" matches every member or entry
+	 * and "" selects the whole value
+	 * @return Projection of the given pointers
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if pointers or one of them is null
+	 */
+	public static JsonProjection of(String... pointers) throws IllegalArgumentException, NullPointerException {
+		if(pointers==null){ throw new NullPointerException("Pointers cannot be null"); }
+		return of(Arrays.asList(pointers));
+	}
+
+	/**
+	 * Creates a projection that selects the values at the given JSON Pointers
+	 * @param pointers JSON Pointers like "/a/b", where "*" matches every member or entry
+	 * and "" selects the whole value
+	 * @return Projection of the given pointers
+	 * @throws IllegalArgumentException if a pointer is not empty and does not start with '/'
+	 * @throws NullPointerException if pointers or one of them is null
+	 */
+	public static JsonProjection of(Collection<String> pointers) throws IllegalArgumentException, NullPointerException {
+		if(pointers==null){ throw new NullPointerException("Pointers cannot be null"); }
+		Node root = new Node();
+		for(String pointer : pointers){
+			if(pointer==null){ throw new NullPointerException("Pointer cannot be null"); }
+			Node node = root;
+			for(String segment : segments(pointer)){
+				if(node.all) break;
+				node = node.child(segment);
+			}
+			node.selectAll();
+		}
+		return root.build();
+	}
+
+	/**
+	 * Creates a projection from a mask object. Members whose value is an object select
+	 * the members of that object, members with any other value except false and null
+	 * select the whole value. The key "*" matches every member or entry
+	 * @param mask Object describing the fields that should be selected
+	 * @return Projection of the mask
+	 * @throws NullPointerException if mask is null
+	 */
+	public static JsonProjection of(JsonObject mask) throws NullPointerException {
+		if(mask==null){ throw new NullPointerException("Mask cannot be null"); }
+		Node root = new Node();
+		root.add(mask);
+		return root.build();
+	}
+
+	/**
+	 * Splits a JSON Pointer into its unescaped segments
+	 * @param pointer JSON Pointer
+	 * @return Segments of the pointer
+	 * @throws IllegalArgumentException if the pointer is not empty and does not start with '/'
+	 */
+	static String[] segments(String pointer) throws IllegalArgumentException {
+		if(pointer.isEmpty()) return new String[0];
+		if(pointer.charAt(0)!='/'){ throw new IllegalArgumentException("JSON Pointer must start with '/': \""+pointer+"\""); }
+		String[] segments = pointer.substring(1).split("/", -1);
+		for(int i=0; i<segments.length; i++)
+			if(segments[i].indexOf('~')>=0) segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+		return segments;
+	}
+
+	/**
+	 * Returns if a segment of a JSON Pointer can address an element of an array
+	 * @param segment Unescaped segment
+	 * @return True if the segment is an index without leading zeros that fits into an int
+	 */
+	static boolean isIndex(String segment){
+		if(segment.isEmpty() || segment.length()>9 || (segment.charAt(0)=='0' && segment.length()>1)) return false;
+		for(int i=0; i<segment.length(); i++)
+			if(segment.charAt(i)<'0' || segment.charAt(i)>'9') return false;
+		return true;
+	}
+
+	/**
+	 * Returns if the whole value is selected
+	 * @return True if nothing inside of the value gets skipped
+	 */
+	boolean isAll(){
+		return members==null;
+	}
+
+	/**
+	 * Returns the projection of a member of an object
+	 * @param key Key of the member
+	 * @return Projection of the member or null if it should be skipped
+	 */
+	JsonProjection member(String key){
+		JsonProjection child = members.get(key);
+		return child!=null ? child : any;
+	}
+
+	/**
+	 * Returns the projection of an entry of an array
+	 * @param index Index of the entry
+	 * @return Projection of the entry or null if it should be skipped
+	 */
+	JsonProjection entry(int index){
+		if(indices){
+			JsonProjection child = members.get(Integer.toString(index));
+			if(child!=null) return child;
+		}
+		return any;
+	}
+
+
+	/** Mutable node that is used while building a projection */
+	private static final class Node {
+
+		private boolean all = false;
+		private Map<String, Node> members = new LinkedHashMap<>();
+		private Node any = null;
+
+		Node child(String segment){
+			if(segment.equals(WILDCARD)){
+				if(any==null) any = new Node();
+				return any;
+			}
+			Node child = members.get(segment);
+			if(child==null) members.put(segment, child = new Node());
+			return child;
+		}
+
+		void selectAll(){
+			all = true;
+			members.clear();
+			any = null;
+		}
+
+		void add(JsonObject mask){
+			for(int i=0; i<mask.size(); i++){
+				final JSON<?> value = mask.valueAt(i);
+				if(value==null || value instanceof JsonNull || (value instanceof JsonBoolean && !((JsonBoolean)value).getValue())) continue;
+				Node child = child(mask.keyAt(i));
+				if(child.all) continue;
+				if(value instanceof JsonObject) child.add((JsonObject)value); else child.selectAll();
+			}
+		}
+
+		/** Adds everything the other node selects to this node */
+		void merge(Node other){
+			if(all) return;
+			if(other.all){ selectAll(); return; }
+			for(Entry<String, Node> entry : other.members.entrySet()) child(entry.getKey()).merge(entry.getValue());
+			if(other.any!=null) child(WILDCARD).merge(other.any);
+		}
+
+		JsonProjection build(){
+			if(all) return ALL;
+			Map<String, JsonProjection> map = new HashMap<>();
+			boolean indices = false;
+			for(Entry<String, Node> entry : members.entrySet()){
+				Node child = entry.getValue();
+				if(any!=null){ // members matched by '*' also get everything the wildcard selects
+					Node merged = new Node();
+					merged.merge(child);
+					merged.merge(any);
+					child = merged;
+				}
+				map.put(entry.getKey(), child.build());
+				indices |= isIndex(entry.getKey());
+			}
+			return new JsonProjection(map, any!=null ? any.build() : null, indices);
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package com.lupcode.JSON;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Publishes the entries of an array at the top level or the values of newline delimited JSON data
+ * to a single {@link Subscriber} with demand driven backpressure. Values only get parsed once the subscriber
+ * has requested them, so the first value arrives before the whole data has been read and only the values
+ * that have not been handled yet are kept in memory.
+ * {@link Subscriber} and {@link Subscription} have the same methods and rules as their counterparts
+ * in <code>java.util.concurrent.Flow</code> and Reactive Streams, which are not available in Java 8.
+ * <pre>
+ * JsonPublisher.ofArray(input).subscribe(new JsonPublisher.Subscriber&lt;JSON&lt;?&gt;&gt;(){ ... });
+ * </pre>
+ * Parsing runs on the thread that calls {@link Subscription#request(long)} unless an
+ * executor has been set. The stream gets closed once all values have been published,
+ * parsing has failed or the subscription has been cancelled
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonPublisher {
+
+	/** Receives the values of a {@link JsonPublisher}
+	 * @param <T> Type of the values
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Gets called once before any other method
+		 * @param subscription Subscription that requests values or cancels
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Gets called for each requested value
+		 * @param item Next value
+		 */
+		void onNext(T item);
+
+		/**
+		 * Gets called once if parsing or reading failed, afterwards no more methods get called
+		 * @param throwable Error that occurred
+		 */
+		void onError(Throwable throwable);
+
+		/** Gets called once after the last value, afterwards no more methods get called */
+		void onComplete();
+	}
+
+	/** Link between a {@link JsonPublisher} and its {@link Subscriber} */
+	public interface Subscription {
+
+		/**
+		 * Requests more values, {@link Long#MAX_VALUE} requests all of them
+		 * @param n Amount of additional values (must be positive)
+		 */
+		void request(long n);
+
+		/** Stops publishing values and closes the stream */
+		void cancel();
+	}
+
+
+	private final InputStream input;
+	private final JsonByteParser parser;
+	private final boolean lines;
+	private Executor executor = null;
+	private boolean subscribed = false;
+
+	private JsonPublisher(InputStream input, boolean lines, JsonParseOptions options){
+		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
+		this.input = input;
+		this.parser = new JsonByteParser(input, new LineColumnTracker(), options);
+		if(lines) parser.decodeEscapes();
+		this.lines = lines;
+	}
+
+	/**
+	 * Creates a publisher for the entries of the array at the top level of the given {@link InputStream}.
+	 * Data behind the array does not get read
+	 * @param input Stream in UTF-8 that contains an array
+	 * @return Publisher of the entries
+	 * @throws NullPointerException if input is null
+	 */
+	public static JsonPublisher ofArray(InputStream input) throws NullPointerException {
+		return new JsonPublisher(input, false, null);
+	}
+
+	/**
+	 * Creates a publisher for the entries of the array at the top level of the given {@link File}
+	 * @param file File that contains an array
+	 * @return Publisher of the entries
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public static JsonPublisher ofArray(File file) throws NullPointerException, IOException {
+		return ofArray(JSON.openFile(file, null));
+	}
+
+	/**
+	 * Creates a publisher for the values of newline delimited JSON data (NDJSON / JSON Lines).
+	 * Blank lines get skipped and escape sequences in strings get decoded like {@link JsonLinesReader} does
+	 * @param input Stream in UTF-8 that contains one value per line
+	 * @return Publisher of the values
+	 * @throws NullPointerException if input is null
+	 */
+	public static JsonPublisher ofLines(InputStream input) throws NullPointerException {
+		return ofLines(input, null);
+	}
+
+	/**
+	 * Creates a publisher for the values of newline delimited JSON data (NDJSON / JSON Lines).
+	 * Blank lines get skipped and escape sequences in strings get decoded like {@link JsonLinesReader} does.
+	 * Lazy and parallel parsing are ignored
+	 * @param input Stream in UTF-8 that contains one value per line
+	 * @param options Options how the lines should be parsed (null for default options)
+	 * @return Publisher of the values
+	 * @throws NullPointerException if input is null
+	 */
+	public static JsonPublisher ofLines(InputStream input, JsonParseOptions options) throws NullPointerException {
+		return new JsonPublisher(input, true, options);
+	}
+
+	/**
+	 * Creates a publisher for the values of a {@link File} that contains newline delimited JSON data
+	 * @param file File that contains one value per line
+	 * @param options Options how the file should be read and the lines parsed (null for default options)
+	 * @return Publisher of the values
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public static JsonPublisher ofLines(File file, JsonParseOptions options) throws NullPointerException, IOException {
+		return ofLines(JSON.openFile(file, options), options);
+	}
+
+	/**
+	 * Returns the executor values get parsed and published on
+	 * @return Executor or null if the thread that requests values is used
+	 */
+	public Executor getExecutor(){
+		return executor;
+	}
+
+	/**
+	 * Sets the executor values should be parsed and published on, so requesting
+	 * values never blocks while reading the stream (default null)
+	 * @param executor Executor or null if the thread that requests values should be used
+	 * @return This instance
+	 * @throws IllegalStateException if a subscriber has already subscribed
+	 */
+	public synchronized JsonPublisher setExecutor(Executor executor) throws IllegalStateException {
+		if(subscribed){ throw new IllegalStateException("Executor cannot be changed after subscribing"); }
+		this.executor = executor; return this;
+	}
+
+	/**
+	 * Subscribes to the values. The data can only be read once, so further
+	 * subscribers get an {@link IllegalStateException} passed to {@link Subscriber#onError(Throwable)}
+	 * @param subscriber Subscriber that should receive the values
+	 * @throws NullPointerException if subscriber is null
+	 */
+	public void subscribe(Subscriber<? super JSON<?>> subscriber) throws NullPointerException {
+		if(subscriber==null){ throw new NullPointerException("Subscriber cannot be null"); }
+		final boolean first;
+		synchronized (this) {
+			first = !subscribed;
+			subscribed = true;
+		}
+		if(!first){
+			subscriber.onSubscribe(new Subscription(){
+				@Override public void request(long n){}
+				@Override public void cancel(){}
+			});
+			subscriber.onError(new IllegalStateException("JsonPublisher only supports a single subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new Publication(subscriber));
+	}
+
+	/**
+	 * Parses the next value
+	 * @param first True if no value has been parsed yet
+	 * @return Next value or null if the end has been reached
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private JSON<?> next(boolean first) throws IOException {
+		return lines ? parser.readRecord() : parser.readEntry(first);
+	}
+
+	private void close(){
+		try { input.close(); } catch (Exception e) {}
+	}
+
+
+	/** Subscription that parses values while there is demand.
+	 * Only one thread publishes at a time, requests of other threads or from
+	 * inside of {@link Subscriber#onNext(Object)} only increase the demand
+	 */
+	private final class Publication implements Subscription, Runnable {
+
+		private final Subscriber<? super JSON<?>> subscriber;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger work = new AtomicInteger(); // requests that have not been handled yet
+		private volatile boolean cancelled = false;
+		private volatile Throwable invalid = null; // error of an invalid request
+		private boolean first = true, done = false;
+
+		Publication(Subscriber<? super JSON<?>> subscriber){
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n){
+			if(n<=0){
+				invalid = new IllegalArgumentException("Amount of requested values must be positive but was "+n);
+			} else {
+				long current, next;
+				do {
+					current = demand.get();
+					next = current+n<0 ? Long.MAX_VALUE : current+n;
+				} while(!demand.compareAndSet(current, next));
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel(){
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule(){
+			if(work.getAndIncrement()!=0) return; // the thread that is publishing handles it
+			if(executor!=null) executor.execute(this); else run();
+		}
+
+		@Override
+		public void run(){
+			int missed = 1;
+			do {
+				if(!done) publish();
+				missed = work.addAndGet(-missed);
+			} while(missed!=0);
+		}
+
+		/** Publishes values until the demand has been met or the end has been reached */
+		private void publish(){
+			long requested = demand.get(), published = 0;
+			for(;;){
+				if(cancelled){ finish(); return; }
+				if(invalid!=null){ finish(); subscriber.onError(invalid); return; }
+				if(published==requested){
+					if(requested==Long.MAX_VALUE || (requested = demand.addAndGet(-published))==0) return;
+					published = 0;
+				}
+				final JSON<?> value;
+				try {
+					value = next(first);
+					first = false;
+				} catch (Throwable ex) {
+					finish(); subscriber.onError(ex); return;
+				}
+				if(value==null){ finish(); subscriber.onComplete(); return; }
+				try {
+					subscriber.onNext(value);
+				} catch (RuntimeException | Error ex) {
+					finish(); throw ex;
+				}
+				published++;
+			}
+		}
+
+		private void finish(){
+			done = true;
+			cancelled = true;
+			close();
+		}
+	}
+}
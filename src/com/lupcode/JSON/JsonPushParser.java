@@ -0,0 +1,417 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.lupcode.JSON.exceptions.JsonException;
+import com.lupcode.JSON.exceptions.JsonParseException;
+import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Non-blocking parser that gets fed with chunks of UTF-8 bytes as they arrive, e.g. from a
+ * {@link java.nio.channels.SocketChannel}, and never waits for more data. Chunks may end anywhere,
+ * also inside of strings, numbers and multi-byte characters. The bytes of an unfinished token are kept
+ * until it is complete, so {@link #nextToken()} and {@link #nextValue()} return null while more input is needed.
+ * Several values may follow each other at the top level, e.g. newline delimited JSON.
+ * Accepts the same lenient syntax as {@link JSON#parseAutoJSON(byte[])}.
+ * <pre>
+ * parser.feed(buffer);
+ * JSON&lt;?&gt; value;
+ * while((value = parser.nextValue())!=null) handle(value);
+ * if(parser.isFinished()) channel.close();
+ * </pre>
+ * A parser is not thread safe
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonPushParser {
+
+	private static final byte CONTEXT_ROOT = 0, CONTEXT_OBJECT = 1, CONTEXT_ARRAY = 2;
+	private static final byte STATE_START = 0, STATE_VALUE = 1, STATE_MEMBER = 2, STATE_NEXT = 3;
+
+	private final JsonByteParser parser;
+	private byte[] contexts = new byte[16];
+	private int depth = 0;
+	private byte state = STATE_START;
+	private boolean ended = false, waiting = false;
+	private JsonToken token = null;
+	private String text = null;
+	private boolean bool = false;
+	private JSON<?> value = null;
+
+	// progress of checking if the token or value at the current position is complete
+	private int scanned = 0; // bytes after the current position that have been checked
+	private int open = 0; // brackets that are still open
+	private byte quote = 0; // quote of a string that is still open or 0
+	private boolean whole = false; // if nested values are part of the check
+
+	public JsonPushParser(){
+		this(null);
+	}
+
+	/**
+	 * Creates a parser that builds values as configured in the options.
+	 * Lazy and parallel parsing are ignored
+	 * @param options Options how the data should be parsed (null for default options)
+	 */
+	public JsonPushParser(JsonParseOptions options){
+		this.parser = new JsonByteParser(options);
+	}
+
+	/**
+	 * Appends the remaining bytes of the given buffer to the data that gets parsed.
+	 * The bytes get copied, so the buffer can be reused afterwards
+	 * @param buffer Bytes in UTF-8 that should be appended, gets read completely
+	 * @throws NullPointerException if buffer is null
+	 * @throws IllegalStateException if {@link #endOfInput()} has already been called
+	 */
+	public void feed(ByteBuffer buffer) throws NullPointerException, IllegalStateException {
+		if(buffer==null){ throw new NullPointerException("ByteBuffer cannot be null"); }
+		if(ended){ throw new IllegalStateException("Input has already ended"); }
+		parser.append(buffer);
+	}
+
+	/**
+	 * Appends a range of bytes to the data that gets parsed.
+	 * The bytes get copied, so the array can be reused afterwards
+	 * @param bytes Bytes in UTF-8 that should be appended
+	 * @param offset Index of the first byte that should be appended
+	 * @param length Amount of bytes that should be appended
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 * @throws IllegalStateException if {@link #endOfInput()} has already been called
+	 */
+	public void feed(byte[] bytes, int offset, int length) throws NullPointerException, IndexOutOfBoundsException, IllegalStateException {
+		if(bytes==null){ throw new NullPointerException("Bytes cannot be null"); }
+		feed(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	/**
+	 * Signals that no more bytes will be fed, so the last token can be completed
+	 * and unfinished data gets reported by the next call
+	 */
+	public void endOfInput(){
+		ended = true;
+	}
+
+	/**
+	 * Returns if the last call of {@link #nextToken()} or {@link #nextValue()}
+	 * returned null because more bytes have to be fed
+	 * @return True if more input is needed
+	 */
+	public boolean needsInput(){
+		return waiting;
+	}
+
+	/**
+	 * Returns if the input has ended and all values have been read
+	 * @return True if nothing is left to parse
+	 */
+	public boolean isFinished(){
+		return ended && !waiting && state==STATE_NEXT && depth==0 && parser.pos>=parser.end;
+	}
+
+	/**
+	 * Reads the next token if it is completely available
+	 * @return Next token or null if more input is needed or all values have been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 */
+	public JsonToken nextToken() throws JsonParseException {
+		final JsonToken next = advance(false);
+		if(next!=null) token = next;
+		return next;
+	}
+
+	/**
+	 * Reads the next value completely and returns it as {@link JSON} object once all of its bytes
+	 * have been fed. Syntax errors inside of objects and arrays are reported once they are complete.
+	 * Can be called at the top level, inside of arrays and after a {@link JsonToken#FIELD_NAME}.
+	 * Afterwards the current token is the one that ended the value
+	 * @return Next value or null if more input is needed, all values have been read
+	 * or the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws JsonException if next token is a field name
+	 */
+	public JSON<?> nextValue() throws JsonParseException, JsonException {
+		final JsonToken next = advance(true);
+		if(next!=null) token = next;
+		return value;
+	}
+
+	/**
+	 * Returns the token that has been read last
+	 * @return Current token or null if no token has been read yet
+	 */
+	public JsonToken getCurrentToken(){
+		return token;
+	}
+
+	/**
+	 * Returns the amount of arrays and objects the current token is nested in
+	 * @return Nesting depth (zero at top level)
+	 */
+	public int getDepth(){
+		return depth;
+	}
+
+	/**
+	 * Returns the text of the current {@link JsonToken#FIELD_NAME}, {@link JsonToken#STRING}
+	 * or {@link JsonToken#NUMBER} as it has been written
+	 * @return Text of current token
+	 * @throws JsonException if current token has no text
+	 */
+	public String getString() throws JsonException {
+		if(token==JsonToken.NULL) return null;
+		if(token==JsonToken.BOOLEAN) return bool ? "true" : "false";
+		if(text==null){ throw new JsonException("Current token "+token+" has no text"); }
+		return text;
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#BOOLEAN}
+	 * @return Boolean value
+	 * @throws JsonException if current token is not a boolean
+	 */
+	public boolean getBoolean() throws JsonException {
+		if(token!=JsonToken.BOOLEAN){ throw new JsonException("Current token "+token+" is not a boolean"); }
+		return bool;
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as long
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 * @throws NumberFormatException if number is not an integer that fits into a long
+	 */
+	public long getLong() throws JsonException, NumberFormatException {
+		return Long.parseLong(numberText());
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as int
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 * @throws NumberFormatException if number is not an integer that fits into an int
+	 */
+	public int getInt() throws JsonException, NumberFormatException {
+		return Integer.parseInt(numberText());
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as double
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 */
+	public double getDouble() throws JsonException {
+		return JsonNumberCodec.parseDouble(numberText());
+	}
+
+	/**
+	 * Returns the line and column of the next byte that will be parsed
+	 * @return Line, column and character offset
+	 */
+	public LineColumnTracker getLineColumn(){
+		return parser.position();
+	}
+
+	private String numberText() throws JsonException {
+		if(token!=JsonToken.NUMBER){ throw new JsonException("Current token "+token+" is not a number"); }
+		return text;
+	}
+
+	/**
+	 * Moves on to the next token if it is completely available.
+	 * Only whitespace and complete tokens get consumed, so a call that
+	 * returns null because of missing input can simply be repeated later
+	 * @param tree If true values get parsed completely into {@link #value}
+	 * @return Token that has been read or null if none is available
+	 * @throws JsonParseException if data could not be parsed correctly
+	 */
+	private JsonToken advance(boolean tree) throws JsonParseException {
+		text = null;
+		value = null;
+		waiting = false;
+		try {
+			for(;;){
+				final int b = parser.skipWhitespace();
+				if(b<0 && !ended){ waiting = true; return null; }
+				final byte context = contexts[depth];
+				switch (state) {
+					case STATE_START:
+						if(context==CONTEXT_ROOT) return readValue(b, tree);
+						if(b<0){ throw new JsonParseUnfinishedException(parser.position()); }
+						if(context==CONTEXT_OBJECT){
+							if(b=='}'){ parser.consume(); return endContainer(JsonToken.END_OBJECT); }
+							if(tree){ throw new JsonException("Expected a value but next token is a field name at "+parser.position()); }
+							if(!complete(b, false)) return null;
+							text = parser.readKey();
+							state = STATE_VALUE;
+							return JsonToken.FIELD_NAME;
+						}
+						if(b==']'){ parser.consume(); return endContainer(JsonToken.END_ARRAY); }
+						return readValue(b, tree);
+
+					case STATE_VALUE:
+						if(b<0){ throw new JsonParseUnfinishedException(':', parser.position()); }
+						if(b!=':'){ throw new JsonParseException(':', parser.actualChar(), parser.position()); }
+						parser.consume();
+						state = STATE_MEMBER;
+						continue;
+
+					case STATE_MEMBER:
+						return readValue(b, tree);
+
+					default:
+						if(context==CONTEXT_ROOT){
+							if(b<0) return null; // end of JSON data
+							state = STATE_START; // next value at the top level
+							continue;
+						}
+						if(b==','){ parser.consume(); state = STATE_START; continue; }
+						if(context==CONTEXT_OBJECT){
+							if(b<0){ throw new JsonParseUnfinishedException('}', parser.position()); }
+							if(b!='}'){ throw new JsonParseException('}', parser.actualChar(), parser.position()); }
+							parser.consume();
+							return endContainer(JsonToken.END_OBJECT);
+						}
+						if(b<0){ throw new JsonParseUnfinishedException(parser.position()); }
+						if(b!=']'){ throw new JsonParseException(']', parser.actualChar(), parser.position()); }
+						parser.consume();
+						return endContainer(JsonToken.END_ARRAY);
+				}
+			}
+		} catch (IOException ex) {
+			throw new JsonParseException(ex); // cannot happen because no stream gets read
+		}
+	}
+
+	/**
+	 * Reads the value that starts with the given character if it is completely available
+	 * @param b First character of the value
+	 * @param tree If true the value gets parsed completely into {@link #value}
+	 * @return Token of the value or null if more input is needed
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading fails
+	 */
+	private JsonToken readValue(int b, boolean tree) throws JsonParseException, IOException {
+		if(b<0){
+			if(depth==0 && state==STATE_START){ state = STATE_NEXT; return null; } // only whitespace after the last value
+			throw new JsonParseUnfinishedException(parser.position());
+		}
+		if(tree){
+			if(!complete(b, true)) return null;
+			value = parser.readValue();
+			state = STATE_NEXT;
+			if(value instanceof JsonObject) return JsonToken.END_OBJECT;
+			if(value instanceof JsonArray) return JsonToken.END_ARRAY;
+			if(value instanceof JsonString){ text = ((JsonString)value).getValue(); return JsonToken.STRING; }
+			if(value instanceof JsonNumber){ text = ((JsonNumber)value).getValue(); return JsonToken.NUMBER; }
+			if(value instanceof JsonBoolean){ bool = ((JsonBoolean)value).getValue(); return JsonToken.BOOLEAN; }
+			return JsonToken.NULL;
+		}
+		if(b=='{'){ parser.consume(); state = STATE_NEXT; push(CONTEXT_OBJECT); return JsonToken.START_OBJECT; }
+		if(b=='['){ parser.consume(); state = STATE_NEXT; push(CONTEXT_ARRAY); return JsonToken.START_ARRAY; }
+		if(!complete(b, false)) return null;
+		state = STATE_NEXT;
+		switch (b) {
+			case '\'':
+			case '"': text = parser.readString(); return JsonToken.STRING;
+			case 't':
+			case 'T':
+			case 'f':
+			case 'F': bool = parser.readBoolean(); return JsonToken.BOOLEAN;
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+			case '.': text = parser.readNumber(); return JsonToken.NUMBER;
+			case 'n':
+			case 'N': parser.readNull(); return JsonToken.NULL;
+			default: throw new JsonParseException("Could not detect json data type at "+parser.position().toString());
+		}
+	}
+
+	/**
+	 * Checks if the token that starts at the current position has been fed completely.
+	 * Continues where the previous check of the same token stopped, so every byte only gets checked once.
+	 * Returns true for unknown characters and once the input has ended so the parser reports errors
+	 * @param b First character of the token
+	 * @param whole If true objects and arrays need to be complete including all nested values
+	 * @return True if the token can be parsed, otherwise {@link #waiting} gets set
+	 */
+	private boolean complete(int b, boolean whole){
+		if(whole!=this.whole){ this.whole = whole; scanned = open = quote = 0; }
+		final byte[] buf = parser.buf;
+		final int from = parser.pos, end = parser.end;
+		int i = from + scanned;
+		if(b=='"' || b=='\'' || (whole && (b=='{' || b=='['))){
+			if(scanned==0){
+				if(b=='{' || b=='[') open = 1; else quote = (byte)b;
+				i++;
+			}
+			for(; i<end; i++){
+				final byte c = buf[i];
+				if(quote!=0){
+					if(c==quote){
+						quote = 0;
+						if(open==0) return done();
+					} else if(c=='\\'){
+						if(i+1>=end) break; // check escaped character once it has been fed
+						i++;
+					}
+				} else if(c=='"' || c=='\''){
+					quote = c;
+				} else if(c=='{' || c=='['){
+					open++;
+				} else if((c=='}' || c==']') && --open==0) return done();
+			}
+		} else if((b>='0' && b<='9') || b=='-' || b=='+' || b=='.'){
+			for(i=Math.max(i, from+1); i<end; i++){
+				final byte c = buf[i];
+				if((c<'0' || c>'9') && c!='-' && c!='+' && c!='.' && (c|0x20)!='e') return done();
+			}
+		} else if((b|0x20)=='t' || (b|0x20)=='f' || (b|0x20)=='n'){
+			final int length = (b|0x20)=='f' ? 5 : (b|0x20)=='t' ? 4 : from+1<end && (buf[from+1]|0x20)=='i' ? 3 : 4;
+			for(i=Math.max(i, from+1); i<end; i++){
+				if(i-from>=length || (buf[i]|0x20)<'a' || (buf[i]|0x20)>'z') return done();
+			}
+			if(i-from>=length) return done();
+		} else return done();
+		scanned = i-from;
+		if(ended) return done();
+		waiting = true;
+		return false;
+	}
+
+	/** Resets the progress of {@link #complete(int, boolean)} for the next token
+	 * @return Always true
+	 */
+	private boolean done(){
+		scanned = open = quote = 0;
+		return true;
+	}
+
+	private void push(byte context){
+		if(++depth==contexts.length){
+			byte[] arr = new byte[contexts.length<<1];
+			System.arraycopy(contexts, 0, arr, 0, contexts.length);
+			contexts = arr;
+		}
+		contexts[depth] = context;
+		state = STATE_START;
+	}
+
+	private JsonToken endContainer(JsonToken end){
+		depth--;
+		state = STATE_NEXT;
+		return end;
+	}
+}
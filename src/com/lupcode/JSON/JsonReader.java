@@ -0,0 +1,470 @@
+package com.lupcode.JSON;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.lupcode.JSON.exceptions.JsonException;
+import com.lupcode.JSON.exceptions.JsonParseException;
+import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
+import com.lupcode.JSON.utils.LineColumnTracker;
+
+/** Streaming pull parser that returns one {@link JsonToken} at a time
+ * without building {@link JSON} objects, so arbitrary large data can be
+ * processed with constant memory. Accepts the same lenient syntax as
+ * {@link JSON#parseAutoJSON(InputStream)}. Alternatively {@link #parse(JsonHandler)}
+ * pushes all tokens to the callbacks of a {@link JsonHandler}.
+ * <pre>
+ * JsonReader reader = new JsonReader(input);
+ * JsonToken token;
+ * while((token = reader.nextToken())!=null){
+ * 	if(token==JsonToken.FIELD_NAME &amp;&amp; reader.getString().equals("id"))
+ * 		System.out.println(reader.nextToken()==JsonToken.NUMBER ? reader.getLong() : null);
+ * }
+ * </pre>
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public class JsonReader implements Closeable {
+
+	private static final byte CONTEXT_ROOT = 0, CONTEXT_OBJECT = 1, CONTEXT_ARRAY = 2;
+	private static final byte STATE_START = 0, STATE_VALUE = 1, STATE_NEXT = 2;
+	private static final byte MODE_TOKEN = 0, MODE_TREE = 1, MODE_SKIP = 2, MODE_VALIDATE = 3, MODE_OPEN = 4;
+
+	private final JsonByteParser parser;
+	private final InputStream input;
+	private byte[] contexts = new byte[16];
+	private int depth = 0;
+	private byte state = STATE_START;
+	private JsonToken token = null;
+	private String text = null;
+	private boolean bool = false;
+	private JSON<?> value = null;
+
+	/**
+	 * Creates a reader that parses the given {@link InputStream} in UTF-8
+	 * @param input Stream that should be parsed
+	 * @throws NullPointerException if input is null
+	 */
+	public JsonReader(InputStream input) throws NullPointerException {
+		this(input, null);
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link InputStream} in UTF-8
+	 * @param input Stream that should be parsed
+	 * @param options Options how the data should be parsed (null for default options).
+	 * Keys get taken from the key cache and a projection applies to every value that gets read as a whole,
+	 * lazy and parallel parsing are not supported by a reader
+	 * @throws NullPointerException if input is null
+	 */
+	public JsonReader(InputStream input, JsonParseOptions options) throws NullPointerException {
+		if(input==null){ throw new NullPointerException("InputStream cannot be null"); }
+		this.input = input;
+		this.parser = new JsonByteParser(input, new LineColumnTracker(), options);
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link File}
+	 * @param file File that should be parsed
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonReader(File file) throws NullPointerException, IOException {
+		this(file, null);
+	}
+
+	/**
+	 * Creates a reader that parses the given {@link File}
+	 * @param file File that should be parsed
+	 * @param options Options how the file should be opened and the data parsed (null for default options).
+	 * Keys get taken from the key cache and a projection applies to every value that gets read as a whole,
+	 * lazy and parallel parsing are not supported by a reader
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if the file could not be opened
+	 */
+	public JsonReader(File file, JsonParseOptions options) throws NullPointerException, IOException {
+		this(JSON.openFile(file, options), options);
+	}
+
+	/**
+	 * Creates a reader that parses the given bytes in UTF-8
+	 * @param json Bytes that should be parsed
+	 * @throws NullPointerException if byte array is null
+	 */
+	public JsonReader(byte[] json) throws NullPointerException {
+		this(json, 0, json.length);
+	}
+
+	/**
+	 * Creates a reader that parses the given range of bytes in UTF-8
+	 * @param json Bytes that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public JsonReader(byte[] json, int offset, int length) throws NullPointerException, IndexOutOfBoundsException {
+		this.input = null;
+		this.parser = new JsonByteParser(json, offset, length, new LineColumnTracker());
+	}
+
+	/**
+	 * Reads the next token
+	 * @return Next token or null if the end of the JSON data has been reached
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	public JsonToken nextToken() throws JsonParseException, IOException {
+		return token = advance(MODE_TOKEN);
+	}
+
+	/**
+	 * Reads the next value completely and returns it as {@link JSON} object.
+	 * Can be called at the beginning, inside of arrays and after a {@link JsonToken#FIELD_NAME}.
+	 * Afterwards the current token is the one that ended the value
+	 * @return Next value or null if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws JsonException if next token is a field name
+	 */
+	public JSON<?> nextValue() throws JsonParseException, IOException, JsonException {
+		token = advance(MODE_TREE);
+		return value;
+	}
+
+	/**
+	 * Reads the next value like {@link #nextValue()} but only opens objects and arrays like {@link #nextToken()},
+	 * so they can be built member by member. Can be called at the same positions as {@link #nextValue()}
+	 * @return Start of an object or array, token of a value that has been read completely
+	 * or null if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws JsonException if next token is a field name
+	 */
+	JsonToken nextOpen() throws JsonParseException, IOException, JsonException {
+		token = advance(MODE_OPEN);
+		return token==JsonToken.END_OBJECT || token==JsonToken.END_ARRAY ? null : token;
+	}
+
+	/**
+	 * Returns the value that has been read completely by {@link #nextOpen()}
+	 * @return Value or null if the current token is not a value
+	 */
+	JSON<?> getCurrentValue(){
+		return value;
+	}
+
+	/**
+	 * Skips the next value without creating any {@link JSON} objects or strings by only counting
+	 * brackets outside of strings, so syntax errors inside of skipped objects and arrays are not detected.
+	 * Can be called at the same positions as {@link #nextValue()}.
+	 * Afterwards the current token is the one that ended the value, its text is not available
+	 * @return True if a value has been skipped or false if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws JsonException if next token is a field name
+	 */
+	public boolean skipValue() throws JsonParseException, IOException, JsonException {
+		return skipValue(false);
+	}
+
+	/**
+	 * Skips the next value without creating any {@link JSON} objects or strings.
+	 * Can be called at the same positions as {@link #nextValue()}.
+	 * Afterwards the current token is the one that ended the value, its text is not available
+	 * @param validate If true the syntax of skipped objects and arrays gets checked completely,
+	 * otherwise only their brackets outside of strings are counted which is faster
+	 * @return True if a value has been skipped or false if the surrounding array or object has ended
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws JsonException if next token is a field name
+	 */
+	public boolean skipValue(boolean validate) throws JsonParseException, IOException, JsonException {
+		final int before = depth;
+		token = advance(validate ? MODE_VALIDATE : MODE_SKIP);
+		return token!=null && depth==before;
+	}
+
+	/**
+	 * If the current token starts an object or array, all tokens
+	 * up to the matching end are skipped and the end becomes the current token.
+	 * The skipped data gets validated without creating any strings. Otherwise nothing happens
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	public void skipChildren() throws JsonParseException, IOException {
+		if(token!=JsonToken.START_OBJECT && token!=JsonToken.START_ARRAY) return;
+		final boolean object = token==JsonToken.START_OBJECT;
+		parser.skipRest(object, true);
+		token = endContainer(object ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+	}
+
+	/**
+	 * Reads all remaining tokens and fires the matching callbacks of the given handler.
+	 * Objects and arrays that get skipped by the handler do not fire an end callback
+	 * @param handler Handler that receives the callbacks
+	 * @return True if the end has been reached or false if the handler stopped parsing
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 * @throws NullPointerException if handler is null
+	 */
+	public boolean parse(JsonHandler handler) throws JsonParseException, IOException, NullPointerException {
+		if(handler==null){ throw new NullPointerException("JsonHandler cannot be null"); }
+		JsonToken token;
+		while((token = nextToken())!=null){
+			JsonHandler.Signal signal;
+			switch (token) {
+				case START_OBJECT: signal = handler.startObject(); break;
+				case END_OBJECT: signal = handler.endObject(); break;
+				case START_ARRAY: signal = handler.startArray(); break;
+				case END_ARRAY: signal = handler.endArray(); break;
+				case FIELD_NAME: signal = handler.key(text); break;
+				case STRING: signal = handler.value(text); break;
+				case NUMBER: signal = fireNumber(handler); break;
+				case BOOLEAN: signal = handler.value(bool); break;
+				default: signal = handler.nullValue(); break;
+			}
+			if(signal==JsonHandler.Signal.STOP) return false;
+			if(signal==JsonHandler.Signal.SKIP){
+				if(token==JsonToken.FIELD_NAME) skipValue(true); else skipChildren();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the token that has been read last
+	 * @return Current token or null if no token has been read or end has been reached
+	 */
+	public JsonToken getCurrentToken(){
+		return token;
+	}
+
+	/**
+	 * Returns the amount of arrays and objects the current token is nested in
+	 * @return Nesting depth (zero at top level)
+	 */
+	public int getDepth(){
+		return depth;
+	}
+
+	/**
+	 * Returns the text of the current {@link JsonToken#FIELD_NAME}, {@link JsonToken#STRING}
+	 * or {@link JsonToken#NUMBER} as it has been written
+	 * @return Text of current token
+	 * @throws JsonException if current token has no text
+	 */
+	public String getString() throws JsonException {
+		if(token==JsonToken.NULL) return null;
+		if(token==JsonToken.BOOLEAN) return bool ? "true" : "false";
+		if(text==null){ throw new JsonException("Current token "+token+" has no text"); }
+		return text;
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#BOOLEAN}
+	 * @return Boolean value
+	 * @throws JsonException if current token is not a boolean
+	 */
+	public boolean getBoolean() throws JsonException {
+		if(token!=JsonToken.BOOLEAN){ throw new JsonException("Current token "+token+" is not a boolean"); }
+		return bool;
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as long
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 * @throws NumberFormatException if number is not an integer that fits into a long
+	 */
+	public long getLong() throws JsonException, NumberFormatException {
+		return Long.parseLong(numberText());
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as int
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 * @throws NumberFormatException if number is not an integer that fits into an int
+	 */
+	public int getInt() throws JsonException, NumberFormatException {
+		return Integer.parseInt(numberText());
+	}
+
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER} as double
+	 * @return Number value
+	 * @throws JsonException if current token is not a number
+	 */
+	public double getDouble() throws JsonException {
+		return JsonNumberCodec.parseDouble(numberText());
+	}
+
+	/**
+	 * Returns the line and column of the next character that will be read
+	 * @return Line, column and character offset
+	 */
+	public LineColumnTracker getLineColumn(){
+		return parser.position();
+	}
+
+	/**
+	 * Closes the underlying {@link InputStream} if there is one
+	 * @throws IOException if closing fails
+	 */
+	@Override
+	public void close() throws IOException {
+		if(input!=null) input.close();
+	}
+
+	private String numberText() throws JsonException {
+		if(token!=JsonToken.NUMBER){ throw new JsonException("Current token "+token+" is not a number"); }
+		return text;
+	}
+
+	private JsonHandler.Signal fireNumber(JsonHandler handler){
+		if(text.indexOf('.')<0 && text.indexOf('e')<0 && text.indexOf('E')<0){
+			if(text.length()<19) return handler.value(Long.parseLong(text));
+			try {
+				return handler.value(Long.parseLong(text));
+			} catch (NumberFormatException ex){}
+		}
+		return handler.value(JsonNumberCodec.parseDouble(text));
+	}
+
+	/**
+	 * Moves on to the next token
+	 * @param mode {@link #MODE_TOKEN} to read single tokens, {@link #MODE_TREE} if values get parsed
+	 * completely into {@link #value}, {@link #MODE_SKIP} or {@link #MODE_VALIDATE} if values get skipped,
+	 * {@link #MODE_OPEN} if only objects and arrays are read as single tokens
+	 * @return Token that has been read
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private JsonToken advance(byte mode) throws JsonParseException, IOException {
+		text = null;
+		value = null;
+		for(;;){
+			int b = parser.skipWhitespace();
+			byte context = contexts[depth];
+			switch (state) {
+				case STATE_START:
+					if(context==CONTEXT_ROOT){
+						state = STATE_NEXT;
+						return readValue(b, mode);
+					}
+					if(b<0){ throw new JsonParseUnfinishedException(parser.position()); }
+					if(context==CONTEXT_OBJECT){
+						if(b=='}'){ parser.consume(); return endContainer(JsonToken.END_OBJECT); }
+						if(mode!=MODE_TOKEN){ throw new JsonException("Expected a value but next token is a field name at "+parser.position()); }
+						text = parser.readKey();
+						state = STATE_VALUE;
+						return JsonToken.FIELD_NAME;
+					}
+					if(b==']'){ parser.consume(); return endContainer(JsonToken.END_ARRAY); }
+					state = STATE_NEXT;
+					return readValue(b, mode);
+
+				case STATE_VALUE:
+					if(b<0){ throw new JsonParseUnfinishedException(':', parser.position()); }
+					if(b!=':'){ throw new JsonParseException(':', parser.actualChar(), parser.position()); }
+					parser.consume();
+					state = STATE_NEXT;
+					return readValue(parser.skipWhitespace(), mode);
+
+				default:
+					if(context==CONTEXT_ROOT) return null; // end of JSON data
+					if(b==','){ parser.consume(); state = STATE_START; continue; }
+					if(context==CONTEXT_OBJECT){
+						if(b<0){ throw new JsonParseUnfinishedException('}', parser.position()); }
+						if(b!='}'){ throw new JsonParseException('}', parser.actualChar(), parser.position()); }
+						parser.consume();
+						return endContainer(JsonToken.END_OBJECT);
+					}
+					if(b<0){ throw new JsonParseUnfinishedException(parser.position()); }
+					if(b!=']'){ throw new JsonParseException(']', parser.actualChar(), parser.position()); }
+					parser.consume();
+					return endContainer(JsonToken.END_ARRAY);
+			}
+		}
+	}
+
+	/**
+	 * Reads the value that starts with the given character
+	 * @param b First character of the value
+	 * @param mode Mode that has been passed to {@link #advance(byte)}
+	 * @return Token of the value
+	 * @throws JsonParseException if data could not be parsed correctly
+	 * @throws IOException if reading from the {@link InputStream} fails
+	 */
+	private JsonToken readValue(int b, byte mode) throws JsonParseException, IOException {
+		if(b<0){ throw new JsonParseUnfinishedException(parser.position()); }
+		if(mode==MODE_SKIP || mode==MODE_VALIDATE){
+			switch (b) {
+				case 't':
+				case 'T':
+				case 'f':
+				case 'F':
+				case 'n':
+				case 'N': break; // read below without creating anything
+				default:
+					parser.skipValue(mode==MODE_VALIDATE);
+					return b=='{' ? JsonToken.END_OBJECT : b=='[' ? JsonToken.END_ARRAY
+							: b=='"' || b=='\'' ? JsonToken.STRING : JsonToken.NUMBER;
+			}
+		}
+		if(mode==MODE_TREE || (mode==MODE_OPEN && b!='{' && b!='[')){
+			value = parser.readValue();
+			if(value instanceof JsonObject) return JsonToken.END_OBJECT;
+			if(value instanceof JsonArray) return JsonToken.END_ARRAY;
+			if(value instanceof JsonString){ text = ((JsonString)value).getValue(); return JsonToken.STRING; }
+			if(value instanceof JsonNumber){ text = ((JsonNumber)value).getValue(); return JsonToken.NUMBER; }
+			if(value instanceof JsonBoolean){ bool = ((JsonBoolean)value).getValue(); return JsonToken.BOOLEAN; }
+			return JsonToken.NULL;
+		}
+		switch (b) {
+			case '{': parser.consume(); push(CONTEXT_OBJECT); return JsonToken.START_OBJECT;
+			case '[': parser.consume(); push(CONTEXT_ARRAY); return JsonToken.START_ARRAY;
+			case '\'':
+			case '"': text = parser.readString(); return JsonToken.STRING;
+			case 't':
+			case 'T':
+			case 'f':
+			case 'F': bool = parser.readBoolean(); return JsonToken.BOOLEAN;
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+			case '.': text = parser.readNumber(); return JsonToken.NUMBER;
+			case 'n':
+			case 'N': parser.readNull(); return JsonToken.NULL;
+			default: throw new JsonParseException("Could not detect json data type at "+parser.position().toString());
+		}
+	}
+
+	private void push(byte context){
+		if(++depth==contexts.length){
+			byte[] arr = new byte[contexts.length<<1];
+			System.arraycopy(contexts, 0, arr, 0, contexts.length);
+			contexts = arr;
+		}
+		contexts[depth] = context;
+		state = STATE_START;
+	}
+
+	private JsonToken endContainer(JsonToken end){
+		depth--;
+		state = STATE_NEXT;
+		return end;
+	}
+}
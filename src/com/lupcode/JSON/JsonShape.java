@@ -0,0 +1,127 @@
+package com.lupcode.JSON;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/** Immutable key layout that is shared by all {@link JsonMap}s with the same keys
+ * in the same order, so record like objects only store their values.
+ * Adding or removing a key transitions to another shape which gets cached,
+ * so objects that change the same way end up sharing a shape again.
+ * Shapes that diverge too much stop offering transitions and the maps
+ * fall back to their own keys.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonShape {
+
+	/** Maximum amount of different shapes that can be reached by adding or by removing a key */
+	static final int MAX_TRANSITIONS = 8;
+
+	/** Shapes with this many keys do not offer transitions */
+	static final int MAX_KEYS = 64;
+
+	final String[] keys;
+	final int[] index;
+	private Map<String, JsonShape> additions = null;
+	private JsonShape[] removals = null;
+	private int removed = 0; // amount of shapes in removals
+
+	private JsonShape(String[] keys){
+		this.keys = keys;
+		this.index = keys.length>JsonMap.INDEX_THRESHOLD ? JsonMap.buildIndex(keys, keys.length) : null;
+	}
+
+	/**
+	 * Returns the shape that has the given key appended
+	 * @param key Key that is not part of this shape
+	 * @return Shape or null if this shape does not offer further transitions
+	 */
+	synchronized JsonShape add(String key){
+		if(additions==null) additions = new HashMap<>(4);
+		JsonShape next = additions.get(key);
+		if(next!=null) return next;
+		if(additions.size()>=MAX_TRANSITIONS || keys.length>=MAX_KEYS) return null;
+		String[] arr = Arrays.copyOf(keys, keys.length+1);
+		arr[keys.length] = key;
+		next = new JsonShape(arr);
+		additions.put(key, next);
+		return next;
+	}
+
+	/**
+	 * Returns the shape without the key at the given position
+	 * @param i Position of the key that should be removed
+	 * @return Shape or null if this shape does not offer further transitions
+	 */
+	synchronized JsonShape remove(int i){
+		if(removals!=null && removals[i]!=null) return removals[i];
+		if(removed>=MAX_TRANSITIONS || keys.length>MAX_KEYS) return null;
+		if(removals==null) removals = new JsonShape[keys.length];
+		String[] arr = new String[keys.length-1];
+		System.arraycopy(keys, 0, arr, 0, i);
+		System.arraycopy(keys, i+1, arr, i, arr.length-i);
+		removed++;
+		return removals[i] = new JsonShape(arr);
+	}
+
+	/**
+	 * Checks if this shape consists of exactly the given keys
+	 * @param keys Array containing the keys
+	 * @param from Index of the first key
+	 * @param to Index after the last key
+	 * @return True if the keys match in the same order
+	 */
+	boolean matches(String[] keys, int from, int to){
+		if(to-from!=this.keys.length) return false;
+		for(int i=0; i<this.keys.length; i++){
+			String k = this.keys[i], other = keys[from+i];
+			if(k!=other && !k.equals(other)) return false;
+		}
+		return true;
+	}
+
+
+	/** Remembers the shapes of recently parsed objects, so siblings with the same keys share one shape.
+	 * Each parser has its own cache
+	 */
+	static final class Cache {
+
+		private final JsonShape[] recent = new JsonShape[32];
+
+		/**
+		 * Creates the map for the given members of a parsed object
+		 * @param keys Keys of the members
+		 * @param values Values of the members
+		 * @param from Index of the first member
+		 * @param to Index after the last member
+		 * @return Map that shares its keys with previously parsed objects if possible
+		 */
+		JsonMap map(String[] keys, JSON<?>[] values, int from, int to){
+			final int size = to-from;
+			if(size==0) return new JsonMap();
+			final int slot = (size*31 + keys[from].hashCode()) & (recent.length-1);
+			JsonShape shape = recent[slot];
+			if(shape==null || !shape.matches(keys, from, to)){
+				if(!distinct(keys, from, to)) return JsonMap.of(keys, values, from, to);
+				recent[slot] = shape = new JsonShape(Arrays.copyOfRange(keys, from, to));
+			}
+			return new JsonMap(shape, Arrays.copyOfRange(values, from, to));
+		}
+
+		private static boolean distinct(String[] keys, int from, int to){
+			if(to-from<=JsonMap.INDEX_THRESHOLD){
+				for(int i=from+1; i<to; i++)
+					for(int j=from; j<i; j++)
+						if(keys[i].equals(keys[j])) return false;
+				return true;
+			}
+			Set<String> set = new HashSet<>();
+			for(int i=from; i<to; i++)
+				if(!set.add(keys[i])) return false;
+			return true;
+		}
+	}
+}
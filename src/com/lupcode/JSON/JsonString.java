@@ -3,9 +3,8 @@ package com.lupcode.JSON;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 
 import com.lupcode.JSON.exceptions.JsonParseException;
 import com.lupcode.JSON.exceptions.JsonParseUnfinishedException;
@@ -46,13 +45,13 @@ public class JsonString extends JSON<JsonString> {
 	}
 	
 	@Override
-	protected void toJSON(OutputStream output, boolean prettyPrint, String whitespace) throws IOException {
+	void toJSON(JsonWriter writer, boolean prettyPrint, int depth) throws IOException {
 		if(value!=null){
-			output.write("\"".getBytes(StandardCharsets.UTF_8));
-			output.write(value.getBytes(StandardCharsets.UTF_8));
-			output.write("\"".getBytes(StandardCharsets.UTF_8));
+			writer.write('"');
+			writer.write(value);
+			writer.write('"');
 		} else {
-			new JsonNull().toJSON(output, prettyPrint, whitespace);
+			writer.write(JsonWriter.NULL);
 		}
 	}
 	
@@ -99,6 +98,18 @@ public class JsonString extends JSON<JsonString> {
 		return this;
 	}
 	
+	@Override
+	JsonString parseJSON(JsonByteParser parser) throws JsonParseException, IOException {
+		this.value = parser.readString();
+		return this;
+	}
+	
+	@Override
+	JsonString parseJSON(JsonCharParser parser) throws JsonParseException, IOException {
+		this.value = parser.readString();
+		return this;
+	}
+	
 	/** Tries to parse a given JSON string as a {@link JsonString}
 	 * @param json String that should be parsed
 	 * @return Parsed JSON string
@@ -120,6 +131,40 @@ public class JsonString extends JSON<JsonString> {
 		return new JsonString().parseJSON(json, offset);
 	}
 	
+	/** Tries to parse a given byte array in UTF-8 as a {@link JsonString}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @return Parsed JSON string
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 */
+	public static JsonString parse(byte[] json) throws JsonParseException, NullPointerException {
+		return new JsonString().parseJSON(json);
+	}
+	
+	/** Tries to parse a given range of a byte array in UTF-8 as a {@link JsonString}
+	 * @param json Bytes in UTF-8 that should be parsed
+	 * @param offset Index of the first byte that should be parsed
+	 * @param length Amount of bytes that should be parsed
+	 * @return Parsed JSON string
+	 * @throws JsonParseException if JSON data could not be parsed correctly
+	 * @throws NullPointerException if byte array is null
+	 * @throws IndexOutOfBoundsException if range is not inside of the byte array
+	 */
+	public static JsonString parse(byte[] json, int offset, int length) throws JsonParseException, NullPointerException, IndexOutOfBoundsException {
+		return new JsonString().parseJSON(json, offset, length);
+	}
+	
+	/** Tries to parse a {@link JsonString} from a given {@link Reader}
+	 * @param reader Reader the characters should be read from
+	 * @return Parsed JSON string
+	 * @throws JsonParseException if input could not be parsed correctly
+	 * @throws IOException if an error occurs while reading from the {@link Reader}
+	 * @throws NullPointerException if reader is null
+	 */
+	public static JsonString parse(Reader reader) throws JsonParseException, IOException, NullPointerException {
+		return new JsonString().parseJSON(reader);
+	}
+	
 	/** Tries to parse a {@link JsonString} from a given {@link InputStream} in UTF-8
 	 * @param json Stream in UTF-8 that should be parsed
 	 * @return Parse JSON string
@@ -143,6 +188,19 @@ public class JsonString extends JSON<JsonString> {
 		return new JsonString().parseJSON(file);
 	}
 	
+	/**
+	 * Tries to parse a {@link JsonString} from a given {@link File}
+	 * @param file File the JSON data should be read from
+	 * @param options Options how the data should be parsed (null for default options)
+	 * @return Parsed JSON string
+	 * @throws JsonParseException if file could not be parsed correctly
+	 * @throws NullPointerException if file is null
+	 * @throws IOException if an error occurs while reading the {@link File}
+	 */
+	public static JsonString parse(File file, JsonParseOptions options) throws JsonParseException, NullPointerException, IOException{
+		return new JsonString().parseJSON(file, options);
+	}
+	
 	/**
 	 * Tries to parse a {@link JsonString} from a given {@link URL}
 	 * @param url URL the JSON data should be read from
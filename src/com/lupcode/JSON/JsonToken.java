@@ -0,0 +1,43 @@
+package com.lupcode.JSON;
+
+/** Tokens that are returned by the streaming {@link JsonReader}
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+public enum JsonToken {
+	
+	/** Opening brace of an object */
+	START_OBJECT,
+	
+	/** Closing brace of an object */
+	END_OBJECT,
+	
+	/** Opening bracket of an array */
+	START_ARRAY,
+	
+	/** Closing bracket of an array */
+	END_ARRAY,
+	
+	/** Key of an object member */
+	FIELD_NAME,
+	
+	/** String value */
+	STRING,
+	
+	/** Number value */
+	NUMBER,
+	
+	/** Boolean value */
+	BOOLEAN,
+	
+	/** Null value (also written as nil) */
+	NULL;
+	
+	/**
+	 * Returns if this token is a complete value on its own
+	 * @return True for strings, numbers, booleans and null
+	 */
+	public boolean isScalarValue(){
+		return this==STRING || this==NUMBER || this==BOOLEAN || this==NULL;
+	}
+}
@@ -0,0 +1,257 @@
+package com.lupcode.JSON;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/** Buffered sink that encodes JSON output directly into a reusable byte buffer
+ * and hands it to the target {@link OutputStream} in large blocks.
+ * Without a target stream the buffer grows and keeps all written bytes.
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+final class JsonWriter {
+
+	static final byte[] TRUE = "true".getBytes(StandardCharsets.UTF_8);
+	static final byte[] FALSE = "false".getBytes(StandardCharsets.UTF_8);
+	static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+	static final byte[] KEY_SEPARATOR = "\": ".getBytes(StandardCharsets.UTF_8);
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final OutputStream output;
+	private byte[] buf;
+	private int pos = 0;
+	private final byte[] lineBreaker, spacer;
+	private byte[][] indents = new byte[8][];
+	private final boolean escape;
+
+	/**
+	 * Creates a writer that flushes its buffer into the given {@link OutputStream}
+	 * @param output Stream the bytes should be written to
+	 */
+	JsonWriter(OutputStream output){
+		this(output, false);
+	}
+
+	/**
+	 * Creates a writer that flushes its buffer into the given {@link OutputStream}
+	 * @param output Stream the bytes should be written to
+	 * @param escape If quotes, backslashes and control characters in texts should be escaped
+	 */
+	JsonWriter(OutputStream output, boolean escape){
+		if(output==null){ throw new NullPointerException("OutputStream cannot be null"); }
+		this.output = output;
+		this.buf = new byte[BUFFER_SIZE];
+		this.lineBreaker = JSON.LINE_BREAKER.getBytes();
+		this.spacer = JSON.SPACER.getBytes(StandardCharsets.UTF_8);
+		this.escape = escape;
+	}
+
+	/**
+	 * Creates a writer that keeps all bytes in memory
+	 * @param initialSize Initial size of the buffer
+	 */
+	JsonWriter(int initialSize){
+		this.output = null;
+		this.buf = new byte[Math.max(initialSize, 16)];
+		this.lineBreaker = JSON.LINE_BREAKER.getBytes();
+		this.spacer = JSON.SPACER.getBytes(StandardCharsets.UTF_8);
+		this.escape = false;
+	}
+
+	/**
+	 * Writes a single ASCII character
+	 * @param c Character that should be written
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(char c) throws IOException {
+		if(pos==buf.length) makeRoom(1);
+		buf[pos++] = (byte)c;
+	}
+
+	/**
+	 * Writes all given bytes
+	 * @param bytes Bytes that should be written
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(byte[] bytes) throws IOException {
+		write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Writes a range of the given bytes
+	 * @param bytes Bytes that should be written
+	 * @param offset Index of the first byte
+	 * @param length Amount of bytes
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(byte[] bytes, int offset, int length) throws IOException {
+		if(buf.length-pos < length){
+			if(output!=null && length >= buf.length){
+				flushBuffer();
+				output.write(bytes, offset, length);
+				return;
+			}
+			makeRoom(length);
+		}
+		System.arraycopy(bytes, offset, buf, pos, length);
+		pos += length;
+	}
+
+	/**
+	 * Encodes the given text as UTF-8 directly into the buffer.
+	 * If the writer escapes, quotes, backslashes and control characters get written as escape sequences
+	 * @param str Text that should be written
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(String str) throws IOException {
+		final int len = str.length();
+		int i = 0;
+		while(i<len){
+			if(buf.length-pos < 4) makeRoom(4);
+			int n = Math.min(len, i + ((buf.length-pos)>>2)); // worst case 4 bytes per char
+			for(; i<n; i++){
+				char c = str.charAt(i);
+				if(c<0x80){
+					if(escape && (c<0x20 || c=='"' || c=='\\')){ i++; writeEscaped(c); break; } // needs more than 4 bytes
+					buf[pos++] = (byte)c;
+				} else if(c<0x800){
+					buf[pos++] = (byte)(0xC0 | (c>>6));
+					buf[pos++] = (byte)(0x80 | (c & 0x3F));
+				} else if(Character.isHighSurrogate(c) && i+1<len && Character.isLowSurrogate(str.charAt(i+1))){
+					int cp = Character.toCodePoint(c, str.charAt(++i));
+					buf[pos++] = (byte)(0xF0 | (cp>>18));
+					buf[pos++] = (byte)(0x80 | ((cp>>12) & 0x3F));
+					buf[pos++] = (byte)(0x80 | ((cp>>6) & 0x3F));
+					buf[pos++] = (byte)(0x80 | (cp & 0x3F));
+				} else if(Character.isSurrogate(c)){
+					buf[pos++] = '?'; // same replacement as String.getBytes
+				} else {
+					buf[pos++] = (byte)(0xE0 | (c>>12));
+					buf[pos++] = (byte)(0x80 | ((c>>6) & 0x3F));
+					buf[pos++] = (byte)(0x80 | (c & 0x3F));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the escape sequence of a quote, backslash or control character
+	 * @param c Character that should be escaped
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	private void writeEscaped(char c) throws IOException {
+		if(buf.length-pos < 6) makeRoom(6);
+		buf[pos++] = '\\';
+		switch (c) {
+			case '"': buf[pos++] = '"'; return;
+			case '\\': buf[pos++] = '\\'; return;
+			case '\n': buf[pos++] = 'n'; return;
+			case '\r': buf[pos++] = 'r'; return;
+			case '\t': buf[pos++] = 't'; return;
+			case '\b': buf[pos++] = 'b'; return;
+			case '\f': buf[pos++] = 'f'; return;
+		}
+		buf[pos++] = 'u';
+		buf[pos++] = '0';
+		buf[pos++] = '0';
+		buf[pos++] = (byte)(c<0x10 ? '0' : '1');
+		buf[pos++] = (byte)"0123456789abcdef".charAt(c & 0xF);
+	}
+
+	/**
+	 * Writes the decimal digits of the given number directly into the buffer
+	 * @param value Number that should be written
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(long value) throws IOException {
+		if(value==Long.MIN_VALUE){ write(Long.toString(value)); return; }
+		if(buf.length-pos < 20) makeRoom(20);
+		if(value<0){ buf[pos++] = '-'; value = -value; }
+		int len = 1;
+		for(long v=value; v>=10; v/=10) len++;
+		int i = pos += len;
+		do {
+			buf[--i] = (byte)('0' + (value % 10));
+			value /= 10;
+		} while(value!=0);
+	}
+
+	/**
+	 * Writes the shortest text that reads back to the given number directly into the buffer
+	 * @param value Number that should be written
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void write(double value) throws IOException {
+		if(buf.length-pos < JsonNumberCodec.MAX_LENGTH) makeRoom(JsonNumberCodec.MAX_LENGTH);
+		pos = JsonNumberCodec.format(value, buf, pos);
+	}
+
+	/**
+	 * Writes a line break followed by the indentation of the given depth
+	 * @param depth Nesting depth that should be indented
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void newLine(int depth) throws IOException {
+		if(depth>=indents.length){
+			byte[][] arr = new byte[Math.max(depth+1, indents.length<<1)][];
+			System.arraycopy(indents, 0, arr, 0, indents.length);
+			indents = arr;
+		}
+		byte[] indent = indents[depth];
+		if(indent==null){
+			indent = new byte[lineBreaker.length + depth*spacer.length];
+			System.arraycopy(lineBreaker, 0, indent, 0, lineBreaker.length);
+			for(int i=0, p=lineBreaker.length; i<depth; i++, p+=spacer.length)
+				System.arraycopy(spacer, 0, indent, p, spacer.length);
+			indents[depth] = indent;
+		}
+		write(indent);
+	}
+
+	/**
+	 * Writes all buffered bytes to the {@link OutputStream}
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	void flush() throws IOException {
+		flushBuffer();
+		if(output!=null) output.flush();
+	}
+
+	/**
+	 * Returns the bytes written so far if no {@link OutputStream} is used
+	 * @return Written bytes decoded as UTF-8
+	 */
+	@Override
+	public String toString(){
+		return new String(buf, 0, pos, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Makes sure the buffer has room for the given amount of bytes
+	 * by either flushing it or growing it
+	 * @param length Amount of bytes that will be written next
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	private void makeRoom(int length) throws IOException {
+		if(output!=null){
+			flushBuffer();
+			if(buf.length >= length) return;
+		}
+		byte[] arr = new byte[Math.max(pos + length, buf.length<<1)];
+		System.arraycopy(buf, 0, arr, 0, pos);
+		buf = arr;
+	}
+
+	/**
+	 * Hands the buffered bytes to the {@link OutputStream}
+	 * @throws IOException if writing to the {@link OutputStream} fails
+	 */
+	private void flushBuffer() throws IOException {
+		if(output!=null && pos>0){
+			output.write(buf, 0, pos);
+			pos = 0;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.lupcode.JSON;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/** Stream that reads a file through memory mapped windows of at most {@link #WINDOW_SIZE} bytes.
+ * Files larger than a single window (e.g. more than 2 GB) get mapped window by window.
+ * Bytes get moved with bulk gets straight from the mapped window into the block buffer of the parser
+ * or, if the whole data is needed in memory, into a single array of the exact file size.
+ * Windows are released as soon as they have been read completely or the stream gets closed
+ * @author LupCode.com (Luca Vogels)
+ * @since 2026-10-17
+ */
+class MappedInputStream extends InputStream {
+
+	static final int WINDOW_SIZE = 1 << 30;
+
+	/** Largest array the JVM can allocate */
+	static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Object UNSAFE; // only set if windows can be released with invokeCleaner
+	private static final Method INVOKE_CLEANER;
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> type = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+			Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+		} catch (Throwable t) {
+			invokeCleaner = null;
+		}
+		UNSAFE = invokeCleaner!=null ? unsafe : null;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long size;
+	private long mapped = 0;
+	private MappedByteBuffer window = null;
+
+	/**
+	 * Opens the given file for reading through memory mapped windows
+	 * @param file File that should be read
+	 * @throws IOException if the file could not be opened
+	 */
+	MappedInputStream(File file) throws IOException {
+		if(file==null){ throw new NullPointerException("File cannot be null"); }
+		this.file = new RandomAccessFile(file, "r");
+		this.channel = this.file.getChannel();
+		this.size = channel.size();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if(!nextWindow()) return -1;
+		return window.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if(len==0) return 0;
+		if(!nextWindow()) return -1;
+		int n = Math.min(len, window.remaining());
+		window.get(b, off, n);
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if(n<=0 || !nextWindow()) return 0;
+		int k = (int)Math.min(n, window.remaining());
+		window.position(window.position()+k);
+		return k;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int)Math.min(remaining(), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Reads all remaining bytes with one bulk get per window into an array of exactly their size
+	 * @return Remaining bytes of the file
+	 * @throws IOException if the remaining bytes do not fit into an array or mapping fails
+	 */
+	byte[] readAll() throws IOException {
+		final long remaining = remaining();
+		if(remaining>MAX_ARRAY_SIZE){ throw new IOException("File is too large to be read into memory ("+remaining+" bytes)"); }
+		final byte[] bytes = new byte[(int)remaining];
+		int len = 0;
+		while(len<bytes.length && nextWindow()){
+			int n = window.remaining();
+			window.get(bytes, len, n);
+			len += n;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Releases the current window and closes the file
+	 */
+	@Override
+	public void close() throws IOException {
+		release(window);
+		window = null;
+		file.close();
+	}
+
+	/**
+	 * Returns the amount of bytes that have not been read yet
+	 * @return Remaining bytes of the file
+	 */
+	private long remaining(){
+		return size - mapped + (window!=null ? window.remaining() : 0);
+	}
+
+	/**
+	 * Makes sure the current window has remaining bytes by mapping the next one if needed
+	 * @return False if the end of the file has been reached
+	 * @throws IOException if mapping fails
+	 */
+	private boolean nextWindow() throws IOException {
+		if(window!=null && window.hasRemaining()) return true;
+		release(window);
+		window = null;
+		if(mapped>=size) return false;
+		long length = Math.min(size-mapped, WINDOW_SIZE);
+		window = channel.map(MapMode.READ_ONLY, mapped, length);
+		mapped += length;
+		return true;
+	}
+
+	/**
+	 * Unmaps a window right away instead of waiting for the garbage collector.
+	 * Uses the cleaner of the JVM if it is accessible, otherwise the window stays
+	 * mapped until it gets collected. The window must not be accessed afterwards
+	 * @param buffer Window that should be released or null
+	 */
+	private static void release(MappedByteBuffer buffer){
+		if(buffer==null) return;
+		try {
+			if(UNSAFE!=null){ INVOKE_CLEANER.invoke(UNSAFE, buffer); return; } // Java 9+
+			Method cleaner = buffer.getClass().getMethod("cleaner");
+			cleaner.setAccessible(true);
+			Object clean = cleaner.invoke(buffer);
+			if(clean!=null) clean.getClass().getMethod("clean").invoke(clean); // Java 8
+		} catch (Throwable t) {}
+	}
+}